@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+# Runs the TestNG suite as N shard JVMs in parallel and merges their reports into target/shards/merged.
+# Usage: scripts/run-shards.sh <shard count> [extra maven arguments, e.g. -Dsaucedemo.standin=true]
+set -uo pipefail
+
+shards="${1:-2}"
+shift || true
+root="target/shards"
+
+mvn -B -q test-compile || exit 1
+rm -rf "$root"
+
+pids=()
+for ((i = 0; i < shards; i++)); do
+  dir="$root/shard-$i"
+  mkdir -p "$dir"
+  mvn -B surefire:test \
+    -Dtest.shard.count="$shards" -Dtest.shard.index="$i" \
+    -Dtest.reportsDirectory="$dir/surefire-reports" \
+    -Dcommand.metrics.file="$dir/command-latency.jsonl" \
+    -Dtest.durations.output="$dir/test-durations.json" \
+    -Dlog.dir="$dir/logs" -Dscreenshot.dir="$dir/screenshots" \
+    "$@" > "$dir/maven.log" 2>&1 &
+  pids+=($!)
+done
+
+status=0
+for i in "${!pids[@]}"; do
+  if ! wait "${pids[$i]}"; then
+    echo "Shard $i failed, see $root/shard-$i/maven.log"
+    status=1
+  fi
+done
+
+mvn -B -q org.codehaus.mojo:exec-maven-plugin:3.1.0:java \
+  -Dexec.mainClass=sharding.ShardReportMerger -Dexec.classpathScope=test -Dexec.args="$root" || status=1
+exit $status
@@ -0,0 +1,72 @@
+package benchmarks;
+
+import org.example.constants.InventoryCatalog;
+import org.example.models.Item;
+import org.example.models.Money;
+import org.example.pages.BasePage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class PriceState {
+    @Param({"$29.99", "Item total: $39.98", "Tax: $3.20"})
+    public String priceText;
+  }
+
+  private List<Item> expectedItems;
+  private List<Item> actualItems;
+
+  @Setup
+  public void setUp() {
+    expectedItems = InventoryCatalog.ITEMS.values().stream()
+        .map(InventoryCatalog.CatalogItem::toItem)
+        .collect(Collectors.toList());
+    actualItems = new ArrayList<>();
+    for (Item item : expectedItems) {
+      actualItems.add(new Item(new String(item.getName()), new String(item.getDescription()), Money.parse("$" + item.getPrice())));
+    }
+  }
+
+  @Benchmark
+  public Money parsePrice(PriceState state) {
+    return BasePage.parsePrice(state.priceText);
+  }
+
+  // Implementation replaced by Money.parse, kept as a reference point.
+  @Benchmark
+  public double parsePriceWithRegex(PriceState state) {
+    return Double.parseDouble(state.priceText.replaceAll("[^0-9.]", ""));
+  }
+
+  @Benchmark
+  public boolean itemListEquals() {
+    return expectedItems.equals(actualItems);
+  }
+
+  @Benchmark
+  public int itemListHashCode() {
+    return actualItems.hashCode();
+  }
+}
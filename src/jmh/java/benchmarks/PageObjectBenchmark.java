@@ -0,0 +1,118 @@
+package benchmarks;
+
+import org.example.constants.SauceDemoUsers;
+import org.example.driver.BrowserProfile;
+import org.example.driver.DriverFactory;
+import org.example.models.Item;
+import org.example.models.ProductCard;
+import org.example.pages.CartPage;
+import org.example.pages.CartStorage;
+import org.example.pages.CheckoutPage;
+import org.example.pages.LoginPage;
+import org.example.pages.ProductPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+import standin.SauceDemoStandInServer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page-object operations against the stand-in server in headless Chrome.
+ * Each state owns its own browser so that no benchmark pays for navigation. Browsers are started by
+ * {@link DriverFactory}, so the driver lockfile and {@code -Ddriver.offline} apply; command metrics are turned off
+ * so the event listener does not add to the measured time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dcommand.metrics.enabled=false")
+public class PageObjectBenchmark {
+  private static final List<Integer> CART_ITEM_IDS = List.of(4, 0, 1);
+
+  public abstract static class BrowserState {
+    protected WebDriver driver;
+    protected String baseUrl;
+
+    protected void openBrowser() {
+      baseUrl = SauceDemoStandInServer.startShared().getBaseUrl();
+      driver = DriverFactory.createChromeDriver(BrowserProfile.TEXT_ONLY);
+      new LoginPage(driver).loginWithSessionCookie(baseUrl, baseUrl + "inventory.html", SauceDemoUsers.STANDARD_USER);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeBrowser() {
+      if (driver != null) {
+        DriverFactory.quit(driver);
+      }
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class InventoryState extends BrowserState {
+    ProductPage productPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      openBrowser();
+      productPage = new ProductPage(driver);
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class CartState extends BrowserState {
+    CartPage cartPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      openBrowser();
+      cartPage = new CartStorage(driver).seedCartAndOpenCart(CART_ITEM_IDS, baseUrl + "cart.html");
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class OverviewState extends BrowserState {
+    CheckoutPage checkoutPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      openBrowser();
+      checkoutPage = new CheckoutPage(driver);
+      new CartStorage(driver).seedCart(CART_ITEM_IDS);
+      driver.get(baseUrl + "checkout-step-two.html");
+    }
+  }
+
+  @Benchmark
+  public List<ProductCard> productPageListCached(InventoryState state) {
+    return state.productPage.getListProductCard();
+  }
+
+  @Benchmark
+  public List<ProductCard> productPageListRebuild(InventoryState state) {
+    state.productPage.invalidateCache();
+    return state.productPage.getListProductCard();
+  }
+
+  @Benchmark
+  public List<ProductCard> cartPageList(CartState state) {
+    return state.cartPage.getListProductCard();
+  }
+
+  @Benchmark
+  public List<Item> checkoutPageItemsInOrder(OverviewState state) {
+    return state.checkoutPage.getListItemInOrder();
+  }
+}
@@ -2,7 +2,7 @@ package org.example.constants;
 
 public class BusinessSetting {
 
-  public static final String TAX = "0.08";
+  public static final long TAX_BASIS_POINTS = 800;
 
   public static final String NUMBER_PRODUCTS_PRODUCT_PAGE = "6";
 
@@ -0,0 +1,64 @@
+package org.example.constants;
+
+import org.example.models.Item;
+import org.example.models.Money;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class InventoryCatalog {
+
+  public record CatalogItem(int id, String name, String description, Money price, String imageFile) {
+
+    public Item toItem() {
+      return new Item(name, description, price);
+    }
+  }
+
+  // SauceDemo items keyed by item id, in the default (name A to Z) order of the inventory page.
+  public static final Map<Integer, CatalogItem> ITEMS;
+
+  static {
+    Map<Integer, CatalogItem> items = new LinkedHashMap<>();
+    add(items, 4, "Sauce Labs Backpack",
+        "carry.allTheThings() with the sleek, streamlined Sly Pack that melds uncompromising style with unequaled laptop and tablet protection.",
+        2999, "sauce-backpack-1200x1500.jpg");
+    add(items, 0, "Sauce Labs Bike Light",
+        "A red light isn't the desired state in testing but it sure helps when riding your bike at night. Water-resistant with 3 lighting modes, 1 AAA battery included.",
+        999, "bike-light-1200x1500.jpg");
+    add(items, 1, "Sauce Labs Bolt T-Shirt",
+        "Get your testing superhero on with the Sauce Labs bolt T-shirt. From American Apparel, 100% ringspun combed cotton, heather gray with red bolt.",
+        1599, "bolt-shirt-1200x1500.jpg");
+    add(items, 5, "Sauce Labs Fleece Jacket",
+        "It's not every day that you come across a midweight quarter-zip fleece jacket capable of handling everything from a relaxing day outdoors to a busy day at the office.",
+        4999, "sauce-pullover-1200x1500.jpg");
+    add(items, 2, "Sauce Labs Onesie",
+        "Rib snap infant onesie for the junior automation engineer in development. Reinforced 3-snap bottom closure, two-needle hemmed sleeved and bottom won't unravel.",
+        799, "red-onesie-1200x1500.jpg");
+    add(items, 3, "Test.allTheThings() T-Shirt (Red)",
+        "This classic Sauce Labs t-shirt is perfect to wear when cozying up to your keyboard to automate a few tests. Super-soft and comfy ringspun combed cotton.",
+        1599, "red-tatt-1200x1500.jpg");
+    ITEMS = Collections.unmodifiableMap(items);
+  }
+
+  private static void add(Map<Integer, CatalogItem> items, int id, String name, String description, long priceCents, String imageFile) {
+    items.put(id, new CatalogItem(id, name, description, Money.ofCents(priceCents), imageFile));
+  }
+
+  public static List<Integer> getItemIds() {
+    return new ArrayList<>(ITEMS.keySet());
+  }
+
+  public static List<Integer> getRandomItemIds(int count) {
+    List<Integer> ids = getItemIds();
+    if (count < 0 || count > ids.size()) {
+      throw new IllegalArgumentException("Cannot pick " + count + " items. Available items: " + ids.size());
+    }
+    Collections.shuffle(ids, ThreadLocalRandom.current());
+    return ids.subList(0, count);
+  }
+}
@@ -0,0 +1,17 @@
+package org.example.constants;
+
+import java.util.List;
+
+public class SauceDemoUsers {
+  public static final String STANDARD_USER = "standard_user";
+  public static final String LOCKED_OUT_USER = "locked_out_user";
+  public static final String PASSWORD = "secret_sauce";
+
+  public static final List<String> ACCEPTED_USERNAMES = List.of(
+      STANDARD_USER,
+      LOCKED_OUT_USER,
+      "problem_user",
+      "performance_glitch_user",
+      "error_user",
+      "visual_user");
+}
@@ -0,0 +1,107 @@
+package org.example.driver;
+
+import org.openqa.selenium.PageLoadStrategy;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * How Chrome is launched for a test. Chosen per method, {@code @Test} group or class (see {@link #resolve}) and
+ * overridden for the whole run with {@code -Dbrowser.profile}, {@code -Dbrowser.headless} and
+ * {@code -Dbrowser.pageLoadStrategy}.
+ */
+public enum BrowserProfile {
+  /**
+   * Headed Chrome that loads every resource, as the suite always did.
+   */
+  FULL(false, PageLoadStrategy.NORMAL, EnumSet.noneOf(BlockedResource.class)),
+  /**
+   * Headless Chrome that still loads images, for tests that check image sources.
+   */
+  IMAGES(true, PageLoadStrategy.NORMAL, EnumSet.of(BlockedResource.FONTS, BlockedResource.ANALYTICS)),
+  /**
+   * Headless Chrome that returns from navigation at DOMContentLoaded and skips images, fonts and analytics,
+   * for tests that only read text and prices.
+   */
+  TEXT_ONLY(true, PageLoadStrategy.EAGER, EnumSet.allOf(BlockedResource.class));
+
+  private final boolean headless;
+  private final PageLoadStrategy pageLoadStrategy;
+  private final Set<BlockedResource> blockedResources;
+
+  BrowserProfile(boolean headless, PageLoadStrategy pageLoadStrategy, Set<BlockedResource> blockedResources) {
+    this.headless = headless;
+    this.pageLoadStrategy = pageLoadStrategy;
+    this.blockedResources = blockedResources;
+  }
+
+  public boolean isHeadless() {
+    String override = System.getProperty("browser.headless");
+    return override != null ? Boolean.parseBoolean(override) : headless;
+  }
+
+  public PageLoadStrategy getPageLoadStrategy() {
+    String override = System.getProperty("browser.pageLoadStrategy");
+    if (override == null) {
+      return pageLoadStrategy;
+    }
+    PageLoadStrategy strategy = PageLoadStrategy.fromString(override.toLowerCase());
+    if (strategy == null) {
+      throw new IllegalArgumentException("Unknown page load strategy: " + override);
+    }
+    return strategy;
+  }
+
+  /**
+   * URL patterns for CDP {@code Network.setBlockedURLs}.
+   */
+  public List<String> getBlockedUrlPatterns() {
+    return blockedResources.stream()
+        .flatMap(resource -> resource.urlPatterns.stream())
+        .toList();
+  }
+
+  /**
+   * The {@code @Test} group that selects this profile, e.g. {@code text-only}.
+   */
+  public String getGroup() {
+    return name().toLowerCase().replace('_', '-');
+  }
+
+  /**
+   * Picks the profile for a test: {@code -Dbrowser.profile}, then {@link Browser} on the method, then a group named
+   * after a profile, then {@link Browser} on the class, then {@link #FULL}.
+   */
+  public static BrowserProfile resolve(Class<?> testClass, Method method, String... groups) {
+    String override = System.getProperty("browser.profile");
+    if (override != null) {
+      return valueOf(override.toUpperCase().replace('-', '_'));
+    }
+    Browser onMethod = method != null ? method.getAnnotation(Browser.class) : null;
+    if (onMethod != null) {
+      return onMethod.value();
+    }
+    for (BrowserProfile profile : values()) {
+      if (Arrays.asList(groups).contains(profile.getGroup())) {
+        return profile;
+      }
+    }
+    Browser onClass = testClass != null ? testClass.getAnnotation(Browser.class) : null;
+    return onClass != null ? onClass.value() : FULL;
+  }
+
+  public enum BlockedResource {
+    IMAGES("*.png", "*.jpg", "*.jpeg", "*.gif", "*.webp", "*.svg", "*.ico"),
+    FONTS("*.woff", "*.woff2", "*.ttf", "*.otf", "*.eot"),
+    ANALYTICS("*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*", "*backtrace.io*");
+
+    private final List<String> urlPatterns;
+
+    BlockedResource(String... urlPatterns) {
+      this.urlPatterns = List.of(urlPatterns);
+    }
+  }
+}
@@ -0,0 +1,149 @@
+package org.example.driver;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.metrics.StartupMetrics;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the chromedriver binary once per JVM. When the lockfile ({@code -Ddriver.lockfile}, default
+ * {@code driver-lock.properties}) exists, the chromedriver version it pins is taken from the local cache and nothing
+ * is looked up online. Otherwise WebDriverManager resolves it on first use; {@code -Ddriver.lockfile.write=true}
+ * then pins the result. {@code -Ddriver.offline=true} fails instead of going online when there is no lockfile.
+ * A pinned {@code chrome.binary} is launched instead of the installed Chrome, and a pinned {@code chrome.version} is
+ * compared with the browser of the first session.
+ */
+public class DriverBinaries {
+  private static final Logger logger = LogManager.getLogger(DriverBinaries.class);
+
+  static final String CHROMEDRIVER_VERSION = "chromedriver.version";
+  static final String CHROMEDRIVER_PATH = "chromedriver.path";
+  static final String CHROME_VERSION = "chrome.version";
+  static final String CHROME_BINARY = "chrome.binary";
+
+  private static volatile Resolution resolution;
+
+  private DriverBinaries() {
+  }
+
+  public static Resolution resolve() {
+    Resolution resolved = resolution;
+    if (resolved != null) {
+      return resolved;
+    }
+    synchronized (DriverBinaries.class) {
+      if (resolution == null) {
+        long start = System.nanoTime();
+        resolved = resolveOnce();
+        System.setProperty("webdriver.chrome.driver", resolved.driverPath().toString());
+        long elapsed = System.nanoTime() - start;
+        StartupMetrics.recordDriverResolution(resolved.source(), elapsed);
+        logger.info("Resolved chromedriver {} from {} in {} ms: {}",
+            resolved.driverVersion(), resolved.source(), elapsed / 1_000_000, resolved.driverPath());
+        resolution = resolved;
+      }
+      return resolution;
+    }
+  }
+
+  /**
+   * Reads the pinned versions from the lockfile and finds the pinned chromedriver in the cache directory.
+   */
+  public static Resolution resolveFromLockfile(Path lockfile, Path cacheDir) {
+    Properties lock = new Properties();
+    try (Reader reader = Files.newBufferedReader(lockfile)) {
+      lock.load(reader);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read driver lockfile " + lockfile, e);
+    }
+    String driverVersion = lock.getProperty(CHROMEDRIVER_VERSION);
+    if (driverVersion == null || driverVersion.isBlank()) {
+      throw new IllegalStateException("Driver lockfile " + lockfile + " does not pin " + CHROMEDRIVER_VERSION + ".");
+    }
+    // The pinned path is machine-local; on other machines the pinned version is looked up in the cache.
+    Path driverPath = Optional.ofNullable(lock.getProperty(CHROMEDRIVER_PATH))
+        .map(Paths::get)
+        .filter(Files::isRegularFile)
+        .or(() -> findCachedDriver(cacheDir, driverVersion))
+        .orElseThrow(() -> new IllegalStateException("Pinned chromedriver " + driverVersion + " is not in "
+            + cacheDir + ". Run once online with -Ddriver.lockfile.write=true to cache it."));
+    return new Resolution("lockfile", driverVersion, driverPath, lock.getProperty(CHROME_VERSION),
+        lock.getProperty(CHROME_BINARY));
+  }
+
+  public static void writeLockfile(Path lockfile, Resolution resolved) {
+    Properties lock = new Properties();
+    lock.setProperty(CHROMEDRIVER_VERSION, resolved.driverVersion());
+    lock.setProperty(CHROMEDRIVER_PATH, resolved.driverPath().toAbsolutePath().toString());
+    if (resolved.browserVersion() != null) {
+      lock.setProperty(CHROME_VERSION, resolved.browserVersion());
+    }
+    if (resolved.browserBinary() != null) {
+      lock.setProperty(CHROME_BINARY, resolved.browserBinary());
+    }
+    try (Writer writer = Files.newBufferedWriter(lockfile)) {
+      lock.store(writer, "Pinned browser binaries, see DriverBinaries");
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write driver lockfile " + lockfile, e);
+    }
+  }
+
+  private static Resolution resolveOnce() {
+    String configured = System.getProperty("webdriver.chrome.driver");
+    if (configured != null) {
+      return new Resolution("webdriver.chrome.driver", "unknown", Paths.get(configured), null, null);
+    }
+    Path lockfile = Paths.get(System.getProperty("driver.lockfile", "driver-lock.properties"));
+    Path cacheDir = Paths.get(System.getProperty("driver.cache.dir",
+        Paths.get(System.getProperty("user.home"), ".cache", "selenium").toString()));
+    if (Files.exists(lockfile)) {
+      return resolveFromLockfile(lockfile, cacheDir);
+    }
+    if (Boolean.getBoolean("driver.offline")) {
+      throw new IllegalStateException("Offline driver resolution needs a lockfile, " + lockfile + " does not exist.");
+    }
+    WebDriverManager manager = WebDriverManager.chromedriver().cachePath(cacheDir.toString());
+    manager.setup();
+    Resolution resolved = new Resolution("webdrivermanager", manager.getDownloadedDriverVersion(),
+        Paths.get(manager.getDownloadedDriverPath()), null, null);
+    if (Boolean.getBoolean("driver.lockfile.write")) {
+      writeLockfile(lockfile, resolved);
+      logger.info("Pinned chromedriver {} in {}", resolved.driverVersion(), lockfile);
+    }
+    return resolved;
+  }
+
+  private static Optional<Path> findCachedDriver(Path cacheDir, String driverVersion) {
+    Path driverDir = cacheDir.resolve("chromedriver");
+    if (!Files.isDirectory(driverDir)) {
+      return Optional.empty();
+    }
+    // WebDriverManager caches drivers as chromedriver/<platform>/<version>/chromedriver[.exe].
+    try (Stream<Path> files = Files.walk(driverDir, 3)) {
+      return files
+          .filter(file -> file.getParent() != null && file.getParent().getFileName().toString().equals(driverVersion))
+          .filter(file -> file.getFileName().toString().startsWith("chromedriver") && Files.isRegularFile(file))
+          .findFirst();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to search the driver cache " + driverDir, e);
+    }
+  }
+
+  /**
+   * Where chromedriver came from, and the Chrome binary to launch when one is pinned ({@code null} for the default).
+   */
+  public record Resolution(String source, String driverVersion, Path driverPath, String browserVersion,
+                           String browserBinary) {
+  }
+}
@@ -0,0 +1,121 @@
+package org.example.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.driver.replay.CommandRecorder;
+import org.example.driver.replay.RecordingChromeDriver;
+import org.example.metrics.CommandLatencyListener;
+import org.example.metrics.CommandMetrics;
+import org.example.metrics.StartupMetrics;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+public class DriverFactory {
+  private static final Logger logger = LogManager.getLogger(DriverFactory.class);
+  private static final AtomicBoolean browserVersionWarned = new AtomicBoolean();
+  private static final Object SERVICE_START_LOCK = new Object();
+
+  public static WebDriver createChromeDriver() {
+    return createChromeDriver(BrowserProfile.FULL);
+  }
+
+  public static WebDriver createChromeDriver(BrowserProfile profile) {
+    logger.debug("Creating ChromeDriver with profile {} on thread {}", profile, Thread.currentThread().getName());
+    DriverBinaries.Resolution binaries = DriverBinaries.resolve();
+    ChromeOptions options = createChromeOptions(profile, binaries);
+    long start = System.nanoTime();
+    ChromeDriverService service = ChromeDriverService.createDefaultService();
+    ProcessHandle driverProcess = startService(service);
+    ChromeDriver driver;
+    try {
+      driver = CommandRecorder.isEnabled()
+          ? new RecordingChromeDriver(service, options)
+          : new ChromeDriver(service, options);
+    } catch (RuntimeException e) {
+      service.stop();
+      throw e;
+    }
+    blockUrls(driver, profile.getBlockedUrlPatterns());
+    StartupMetrics.recordSessionStart(System.nanoTime() - start);
+    checkBrowserVersion(driver, binaries);
+    WebDriver decorated = CommandMetrics.isEnabled()
+        ? new EventFiringDecorator<>(new CommandLatencyListener()).decorate(driver)
+        : driver;
+    DriverReaper.getInstance().track(decorated, driverProcess);
+    return decorated;
+  }
+
+  /**
+   * Quits the session through the reaper, off the calling thread.
+   */
+  public static void quit(WebDriver driver) {
+    DriverReaper.getInstance().reap(driver);
+  }
+
+  // Starts chromedriver ahead of the session and finds its process, so the reaper can kill it if quit() hangs.
+  // Services are started one at a time, since the new process is found by comparing the JVM's children.
+  private static ProcessHandle startService(ChromeDriverService service) {
+    synchronized (SERVICE_START_LOCK) {
+      Set<ProcessHandle> before = ProcessHandle.current().children().collect(Collectors.toSet());
+      try {
+        service.start();
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to start chromedriver.", e);
+      }
+      List<ProcessHandle> started = ProcessHandle.current().children()
+          .filter(process -> !before.contains(process))
+          .toList();
+      if (started.size() != 1) {
+        logger.debug("Could not identify the chromedriver process ({} candidates).", started.size());
+        return null;
+      }
+      return started.get(0);
+    }
+  }
+
+  static ChromeOptions createChromeOptions(BrowserProfile profile, DriverBinaries.Resolution binaries) {
+    ChromeOptions options = new ChromeOptions();
+    if (binaries.browserBinary() != null) {
+      options.setBinary(binaries.browserBinary());
+    }
+    options.setPageLoadStrategy(profile.getPageLoadStrategy());
+    if (profile.isHeadless()) {
+      options.addArguments("--headless=new", "--window-size=1920,1080");
+    }
+    return options;
+  }
+
+  private static void checkBrowserVersion(ChromeDriver driver, DriverBinaries.Resolution binaries) {
+    String pinned = binaries.browserVersion();
+    String actual = driver.getCapabilities().getBrowserVersion();
+    if (pinned != null && !pinned.equals(actual) && browserVersionWarned.compareAndSet(false, true)) {
+      logger.warn("Chrome {} was started, but the driver lockfile pins {}.", actual, pinned);
+    }
+  }
+
+  // Blocking is an optimization; a session that cannot block still runs the tests.
+  private static void blockUrls(HasCdp driver, List<String> urlPatterns) {
+    if (urlPatterns.isEmpty()) {
+      return;
+    }
+    try {
+      driver.executeCdpCommand("Network.enable", Map.of());
+      driver.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", urlPatterns));
+    } catch (WebDriverException e) {
+      logger.warn("Failed to block {} URL patterns, loading all resources: {}", urlPatterns.size(), e.getMessage());
+    }
+  }
+}
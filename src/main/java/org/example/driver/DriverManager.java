@@ -0,0 +1,64 @@
+package org.example.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.driver.replay.CommandRecorder;
+import org.example.metrics.CommandMetrics;
+import org.openqa.selenium.WebDriver;
+
+public class DriverManager {
+  private static final Logger logger = LogManager.getLogger(DriverManager.class);
+  private static final ThreadLocal<SessionContext> SESSION = new ThreadLocal<>();
+
+  private DriverManager() {
+  }
+
+  public static SessionContext startSession() {
+    return startSession(BrowserProfile.resolve(null, null));
+  }
+
+  public static SessionContext startSession(BrowserProfile profile) {
+    if (SESSION.get() != null) {
+      logger.warn("Session already active on thread {}. Closing it before starting a new one.", Thread.currentThread().getName());
+      endSession();
+    }
+    CommandMetrics.reset();
+    CommandRecorder.reset();
+    WebDriver driver = DriverPool.isEnabled()
+        ? DriverPool.getInstance(profile).checkout()
+        : DriverFactory.createChromeDriver(profile);
+    SessionContext session = new SessionContext(driver, profile);
+    SESSION.set(session);
+    return session;
+  }
+
+  public static SessionContext getSession() {
+    SessionContext session = SESSION.get();
+    if (session == null) {
+      logger.error("No active session on thread {}", Thread.currentThread().getName());
+      throw new IllegalStateException("No active WebDriver session for current thread.");
+    }
+    return session;
+  }
+
+  public static boolean hasSession() {
+    return SESSION.get() != null;
+  }
+
+  public static WebDriver getDriver() {
+    return getSession().getDriver();
+  }
+
+  public static void endSession() {
+    SessionContext session = SESSION.get();
+    SESSION.remove();
+    if (session == null) {
+      return;
+    }
+    if (DriverPool.isEnabled()) {
+      DriverPool.getInstance(session.getProfile()).checkin(session.getDriver());
+    } else {
+      DriverFactory.quit(session.getDriver());
+    }
+  }
+}
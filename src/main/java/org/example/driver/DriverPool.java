@@ -0,0 +1,307 @@
+package org.example.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class DriverPool {
+  private static final Logger logger = LogManager.getLogger(DriverPool.class);
+
+  private static final String BLANK_PAGE = "about:blank";
+  private static final String CLEAR_STORAGE_SCRIPT =
+      "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+  // How often a waiting checkout retries to start a session, e.g. after another profile's pool freed one.
+  private static final long RETRY_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+  private static final Map<BrowserProfile, DriverPool> instances = new EnumMap<>(BrowserProfile.class);
+  private static Semaphore sharedSessionPermits;
+
+  private final int maxSize;
+  private final Semaphore sessionPermits;
+  private final long checkoutTimeoutMillis;
+  private final Supplier<WebDriver> driverSupplier;
+  private final LinkedBlockingDeque<WebDriver> idleDrivers = new LinkedBlockingDeque<>();
+  private final AtomicInteger createdCount = new AtomicInteger();
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong replaced = new AtomicLong();
+  private final AtomicLong checkouts = new AtomicLong();
+  private final AtomicLong totalWaitNanos = new AtomicLong();
+  private final AtomicLong maxWaitNanos = new AtomicLong();
+
+  public DriverPool(int maxSize, long checkoutTimeoutMillis, Supplier<WebDriver> driverSupplier) {
+    this(maxSize, checkoutTimeoutMillis, driverSupplier, new Semaphore(Math.max(0, maxSize)));
+  }
+
+  private DriverPool(int maxSize, long checkoutTimeoutMillis, Supplier<WebDriver> driverSupplier,
+                     Semaphore sessionPermits) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("Pool size must be positive: " + maxSize);
+    }
+    this.maxSize = maxSize;
+    this.checkoutTimeoutMillis = checkoutTimeoutMillis;
+    this.driverSupplier = driverSupplier;
+    this.sessionPermits = sessionPermits;
+  }
+
+  /**
+   * The pool for sessions of the given profile. Sessions of different profiles are launched differently,
+   * so each profile has its own pool, but {@code driver.pool.size} caps the live sessions of all pools together.
+   * A pool that is at the cap closes an idle session of another profile to start its own.
+   */
+  public static DriverPool getInstance(BrowserProfile profile) {
+    synchronized (instances) {
+      DriverPool instance = instances.get(profile);
+      if (instance == null) {
+        int size = Integer.getInteger("driver.pool.size", Runtime.getRuntime().availableProcessors());
+        long timeout = Long.getLong("driver.pool.checkoutTimeoutMillis", 120_000L);
+        if (sharedSessionPermits == null) {
+          sharedSessionPermits = new Semaphore(Math.max(0, size));
+        }
+        instance = new DriverPool(size, timeout, () -> DriverFactory.createChromeDriver(profile), sharedSessionPermits);
+        instance.warmUp(Integer.getInteger("driver.pool.warmUp", 0));
+        Runtime.getRuntime().addShutdownHook(new Thread(instance::drain, "driver-pool-shutdown-" + profile));
+        instances.put(profile, instance);
+      }
+      return instance;
+    }
+  }
+
+  /**
+   * The pools created so far, by profile.
+   */
+  public static Map<BrowserProfile, DriverPool> getInstances() {
+    synchronized (instances) {
+      return new EnumMap<>(instances);
+    }
+  }
+
+  public static boolean isEnabled() {
+    return Boolean.parseBoolean(System.getProperty("driver.pool.enabled", "true"));
+  }
+
+  public void warmUp(int count) {
+    int target = Math.min(count, maxSize);
+    for (int i = 0; i < target && reserveSlot(false); i++) {
+      WebDriver driver = createOrRelease();
+      if (driver != null) {
+        idleDrivers.offerLast(driver);
+      }
+    }
+    if (target > 0) {
+      logger.info("Driver pool warmed up with {} session(s).", idleDrivers.size());
+    }
+  }
+
+  public WebDriver checkout() {
+    long start = System.nanoTime();
+    try {
+      WebDriver driver = pollHealthy();
+      if (driver != null) {
+        hits.incrementAndGet();
+        return driver;
+      }
+      if (reserveSlot(true)) {
+        misses.incrementAndGet();
+        WebDriver created = createOrRelease();
+        if (created == null) {
+          throw new IllegalStateException("Failed to start a new WebDriver session.");
+        }
+        return created;
+      }
+      return awaitHealthy(start);
+    } finally {
+      recordWait(System.nanoTime() - start);
+    }
+  }
+
+  public void checkin(WebDriver driver) {
+    if (driver == null) {
+      return;
+    }
+    if (!reset(driver)) {
+      discard(driver);
+      return;
+    }
+    idleDrivers.offerFirst(driver);
+  }
+
+  public void discard(WebDriver driver) {
+    releaseSlot();
+    DriverFactory.quit(driver);
+  }
+
+  public PoolStats getStats() {
+    return new PoolStats(maxSize, createdCount.get(), idleDrivers.size(), hits.get(), misses.get(), replaced.get(),
+        checkouts.get(), totalWaitNanos.get(), maxWaitNanos.get());
+  }
+
+  /**
+   * Quits the idle sessions and resets the statistics, e.g. at the end of a suite. The pool stays usable; sessions
+   * checked out at the time are returned to it as usual.
+   */
+  public void drain() {
+    int drained = 0;
+    WebDriver driver;
+    while ((driver = idleDrivers.pollFirst()) != null) {
+      discard(driver);
+      drained++;
+    }
+    logger.debug("Drained {} idle session(s) from the driver pool.", drained);
+    hits.set(0);
+    misses.set(0);
+    replaced.set(0);
+    checkouts.set(0);
+    totalWaitNanos.set(0);
+    maxWaitNanos.set(0);
+  }
+
+  private WebDriver pollHealthy() {
+    WebDriver driver;
+    while ((driver = idleDrivers.pollFirst()) != null) {
+      if (isHealthy(driver)) {
+        return driver;
+      }
+      replaceBroken(driver);
+    }
+    return null;
+  }
+
+  // Counts a hit for a reused session and a miss for one started while waiting.
+  private WebDriver awaitHealthy(long start) {
+    try {
+      while (true) {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(checkoutTimeoutMillis) - (System.nanoTime() - start);
+        if (remaining <= 0) {
+          throw new IllegalStateException("Timed out waiting for a free WebDriver session after " + checkoutTimeoutMillis + " ms.");
+        }
+        WebDriver driver = idleDrivers.pollFirst(Math.min(remaining, RETRY_SLICE_NANOS), TimeUnit.NANOSECONDS);
+        if (driver != null) {
+          if (isHealthy(driver)) {
+            hits.incrementAndGet();
+            return driver;
+          }
+          replaceBroken(driver);
+        }
+        if (reserveSlot(true)) {
+          WebDriver created = createOrRelease();
+          if (created != null) {
+            misses.incrementAndGet();
+            return created;
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a WebDriver session.", e);
+    }
+  }
+
+  private boolean reserveSlot(boolean closeIdleOfOtherPools) {
+    while (!sessionPermits.tryAcquire()) {
+      if (!closeIdleOfOtherPools || !closeIdleSessionOfOtherPool()) {
+        return false;
+      }
+    }
+    createdCount.incrementAndGet();
+    return true;
+  }
+
+  private void releaseSlot() {
+    createdCount.decrementAndGet();
+    sessionPermits.release();
+  }
+
+  // Frees a slot of the shared cap by closing the least recently used idle session of another profile.
+  private boolean closeIdleSessionOfOtherPool() {
+    for (DriverPool other : getInstances().values()) {
+      if (other == this || other.sessionPermits != sessionPermits) {
+        continue;
+      }
+      WebDriver idle = other.idleDrivers.pollLast();
+      if (idle != null) {
+        logger.debug("Closing an idle session of another browser profile to stay within the pool size.");
+        other.discard(idle);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private WebDriver createOrRelease() {
+    try {
+      return driverSupplier.get();
+    } catch (RuntimeException e) {
+      releaseSlot();
+      logger.error("Failed to create WebDriver session for the pool.", e);
+      return null;
+    }
+  }
+
+  private void replaceBroken(WebDriver driver) {
+    logger.warn("Discarding unhealthy WebDriver session from the pool.");
+    replaced.incrementAndGet();
+    discard(driver);
+  }
+
+  private boolean isHealthy(WebDriver driver) {
+    try {
+      driver.getWindowHandle();
+      return true;
+    } catch (RuntimeException e) {
+      logger.debug("Health check failed: {}", e.getMessage());
+      return false;
+    }
+  }
+
+  private boolean reset(WebDriver driver) {
+    try {
+      driver.manage().deleteAllCookies();
+      ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+      driver.get(BLANK_PAGE);
+      return true;
+    } catch (RuntimeException e) {
+      logger.warn("Failed to reset WebDriver session, it will be replaced: {}", e.getMessage());
+      replaced.incrementAndGet();
+      return false;
+    }
+  }
+
+  private void recordWait(long waitNanos) {
+    checkouts.incrementAndGet();
+    totalWaitNanos.addAndGet(waitNanos);
+    maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+  }
+
+  public record PoolStats(int maxSize, int created, int idle, long hits, long misses, long replaced,
+                          long checkouts, long totalWaitNanos, long maxWaitNanos) {
+
+    public double hitRatio() {
+      long total = hits + misses;
+      return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public double averageWaitMillis() {
+      return checkouts == 0 ? 0 : totalWaitNanos / 1_000_000.0 / checkouts;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("size=%d/%d, idle=%d, hits=%d, misses=%d, hitRatio=%.2f, replaced=%d, "
+              + "checkouts=%d, avgWait=%.1fms, maxWait=%.1fms",
+          created, maxSize, idle, hits, misses, hitRatio(), replaced, checkouts, averageWaitMillis(),
+          maxWaitNanos / 1_000_000.0);
+    }
+  }
+}
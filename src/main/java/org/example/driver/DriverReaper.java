@@ -0,0 +1,279 @@
+package org.example.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Quits WebDriver sessions on background threads so teardown does not hold up the next test. A quit that takes
+ * longer than the hard timeout is abandoned and the session's chromedriver and Chrome processes are killed, as are
+ * processes that are still alive after a quit returned.
+ */
+public class DriverReaper {
+  private static final Logger logger = LogManager.getLogger(DriverReaper.class);
+
+  // Chrome's helper processes may need a moment to exit after quit() returns.
+  private static final long EXIT_GRACE_MILLIS = 2_000;
+
+  private static volatile DriverReaper instance;
+
+  private final long timeoutMillis;
+  private final ExecutorService quitters;
+  private final ScheduledExecutorService watchdog;
+  private final Map<WebDriver, ProcessHandle> driverProcesses = Collections.synchronizedMap(new IdentityHashMap<>());
+
+  private final AtomicInteger backlog = new AtomicInteger();
+  private final AtomicInteger maxBacklog = new AtomicInteger();
+  private final AtomicLong reaped = new AtomicLong();
+  private final AtomicLong timeouts = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+  private final AtomicLong leakedProcesses = new AtomicLong();
+
+  public DriverReaper(int threads, long timeoutMillis) {
+    this.timeoutMillis = timeoutMillis;
+    this.quitters = Executors.newFixedThreadPool(threads, daemonThreads("driver-reaper"));
+    this.watchdog = Executors.newSingleThreadScheduledExecutor(daemonThreads("driver-reaper-watchdog"));
+  }
+
+  public static DriverReaper getInstance() {
+    if (instance == null) {
+      synchronized (DriverReaper.class) {
+        if (instance == null) {
+          instance = new DriverReaper(Integer.getInteger("driver.reaper.threads", 2),
+              Long.getLong("driver.reaper.timeoutMillis", 10_000L));
+          Runtime.getRuntime().addShutdownHook(new Thread(instance::shutdown, "driver-reaper-shutdown"));
+        }
+      }
+    }
+    return instance;
+  }
+
+  public static boolean isEnabled() {
+    return Boolean.parseBoolean(System.getProperty("driver.reaper.enabled", "true"));
+  }
+
+  /**
+   * Remembers the chromedriver process behind a session, so it can be killed if the session does not quit.
+   */
+  public void track(WebDriver driver, ProcessHandle driverProcess) {
+    if (driverProcess != null) {
+      driverProcesses.put(driver, driverProcess);
+    }
+  }
+
+  /**
+   * Quits the session in the background, or right away when the reaper is disabled or shut down.
+   */
+  public void reap(WebDriver driver) {
+    ProcessHandle driverProcess = driverProcesses.remove(driver);
+    if (!isEnabled()) {
+      quit(driver, driverProcess);
+      return;
+    }
+    maxBacklog.accumulateAndGet(backlog.incrementAndGet(), Math::max);
+    try {
+      quitters.execute(() -> quitWithTimeout(driver, driverProcess));
+    } catch (RejectedExecutionException e) {
+      backlog.decrementAndGet();
+      quit(driver, driverProcess);
+    }
+  }
+
+  /**
+   * Waits until every pending quit has finished or the timeout passed. Returns {@code true} if none are left.
+   */
+  public boolean awaitIdle(long waitMillis) {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+    while (backlog.get() > 0) {
+      if (System.nanoTime() > deadline) {
+        return false;
+      }
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Kills chromedriver processes started by this JVM that no tracked session owns, with their Chrome processes.
+   * Call it after {@link #awaitIdle}, since sessions being quit are no longer tracked. Returns the number of processes
+   * killed.
+   */
+  public int killOrphans() {
+    List<ProcessHandle> owned;
+    synchronized (driverProcesses) {
+      owned = new ArrayList<>(driverProcesses.values());
+    }
+    int killed = 0;
+    for (ProcessHandle process : ProcessHandle.current().children().toList()) {
+      if (isChromeDriver(process) && !owned.contains(process)) {
+        killed += kill(process);
+      }
+    }
+    if (killed > 0) {
+      logger.warn("Killed {} orphaned chromedriver/Chrome process(es).", killed);
+    }
+    return killed;
+  }
+
+  public long getTimeoutMillis() {
+    return timeoutMillis;
+  }
+
+  public ReaperStats getStats() {
+    return new ReaperStats(reaped.get(), backlog.get(), maxBacklog.get(), timeouts.get(), failures.get(),
+        leakedProcesses.get());
+  }
+
+  public void shutdown() {
+    quitters.shutdown();
+    try {
+      if (!quitters.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+        quitters.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    watchdog.shutdownNow();
+    killOrphans();
+  }
+
+  private static boolean isChromeDriver(ProcessHandle process) {
+    return process.info().command().map(command -> command.contains("chromedriver")).orElse(false);
+  }
+
+  private void quitWithTimeout(WebDriver driver, ProcessHandle driverProcess) {
+    try {
+      List<ProcessHandle> processes = processTree(driverProcess);
+      Thread worker = Thread.currentThread();
+      ScheduledFuture<?> timeout = null;
+      try {
+        timeout = watchdog.schedule(() -> {
+          timeouts.incrementAndGet();
+          logger.warn("Quitting a WebDriver session took longer than {} ms, killing its processes.", timeoutMillis);
+          kill(driverProcess);
+          worker.interrupt();
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        logger.debug("Watchdog is shut down, quitting without a timeout.");
+      }
+      try {
+        quitSession(driver);
+      } finally {
+        if (timeout != null) {
+          timeout.cancel(false);
+        }
+        // A timeout that fired just as the quit returned must not interrupt what follows on this thread.
+        Thread.interrupted();
+      }
+      killSurvivors(processes);
+    } finally {
+      backlog.decrementAndGet();
+    }
+  }
+
+  private void quit(WebDriver driver, ProcessHandle driverProcess) {
+    List<ProcessHandle> processes = processTree(driverProcess);
+    quitSession(driver);
+    killSurvivors(processes);
+  }
+
+  private void quitSession(WebDriver driver) {
+    try {
+      driver.quit();
+      reaped.incrementAndGet();
+    } catch (RuntimeException e) {
+      failures.incrementAndGet();
+      logger.debug("Ignoring failure while quitting WebDriver: {}", e.getMessage());
+    }
+  }
+
+  // Chrome outlives chromedriver if chromedriver dies first, so its processes are listed before the quit.
+  private void killSurvivors(List<ProcessHandle> processes) {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(EXIT_GRACE_MILLIS);
+    int leaked = 0;
+    for (ProcessHandle process : processes) {
+      if (!awaitExit(process, deadline) && process.destroyForcibly()) {
+        leaked++;
+      }
+    }
+    if (leaked > 0) {
+      leakedProcesses.addAndGet(leaked);
+      logger.warn("Killed {} process(es) left running after WebDriver quit.", leaked);
+    }
+  }
+
+  private int kill(ProcessHandle driverProcess) {
+    int killed = 0;
+    for (ProcessHandle process : processTree(driverProcess)) {
+      if (process.isAlive() && process.destroyForcibly()) {
+        killed++;
+      }
+    }
+    leakedProcesses.addAndGet(killed);
+    return killed;
+  }
+
+  private static boolean awaitExit(ProcessHandle process, long deadlineNanos) {
+    try {
+      process.onExit().get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+      return true;
+    } catch (TimeoutException | ExecutionException e) {
+      return !process.isAlive();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return !process.isAlive();
+    }
+  }
+
+  // Children first, so Chrome does not get re-parented when chromedriver goes away.
+  private static List<ProcessHandle> processTree(ProcessHandle root) {
+    if (root == null) {
+      return List.of();
+    }
+    List<ProcessHandle> processes = new ArrayList<>(root.descendants().toList());
+    Collections.reverse(processes);
+    processes.add(root);
+    return processes;
+  }
+
+  private static ThreadFactory daemonThreads(String name) {
+    AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  public record ReaperStats(long reaped, int backlog, int maxBacklog, long timeouts, long failures,
+                            long leakedProcesses) {
+
+    @Override
+    public String toString() {
+      return String.format("reaped=%d, backlog=%d, maxBacklog=%d, timeouts=%d, failures=%d, leakedProcesses=%d",
+          reaped, backlog, maxBacklog, timeouts, failures, leakedProcesses);
+    }
+  }
+}
@@ -0,0 +1,6 @@
+package org.example.driver;
+
+public enum LoginStrategy {
+  UI,
+  SESSION_COOKIE
+}
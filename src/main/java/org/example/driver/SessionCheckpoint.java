@@ -0,0 +1,121 @@
+package org.example.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Browser state captured after an expensive setup: cookies, localStorage and the current URL.
+ * Restoring it into another session replays the state without repeating the UI steps.
+ */
+public class SessionCheckpoint {
+  private static final Logger logger = LogManager.getLogger(SessionCheckpoint.class);
+
+  private static final String READ_STORAGE_SCRIPT = """
+      var entries = {};
+      for (var i = 0; i < window.localStorage.length; i++) {
+        var key = window.localStorage.key(i);
+        entries[key] = window.localStorage.getItem(key);
+      }
+      return entries;
+      """;
+
+  // Arguments: cookie strings for document.cookie, localStorage entries.
+  private static final String RESTORE_STATE_SCRIPT = """
+      arguments[0].forEach(function (cookie) { document.cookie = cookie; });
+      window.localStorage.clear();
+      window.sessionStorage.clear();
+      var entries = arguments[1];
+      Object.keys(entries).forEach(function (key) { window.localStorage.setItem(key, entries[key]); });
+      """;
+
+  private final String url;
+  private final Set<Cookie> cookies;
+  private final Map<String, String> localStorage;
+
+  public SessionCheckpoint(String url, Set<Cookie> cookies, Map<String, String> localStorage) {
+    this.url = url;
+    this.cookies = Set.copyOf(cookies);
+    this.localStorage = Collections.unmodifiableMap(new LinkedHashMap<>(localStorage));
+  }
+
+  public static SessionCheckpoint capture(WebDriver driver) {
+    Map<String, String> storage = new LinkedHashMap<>();
+    Map<?, ?> entries = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(READ_STORAGE_SCRIPT);
+    entries.forEach((key, value) -> storage.put(String.valueOf(key), String.valueOf(value)));
+    SessionCheckpoint checkpoint = new SessionCheckpoint(driver.getCurrentUrl(), driver.manage().getCookies(), storage);
+    logger.debug("Captured {}", checkpoint);
+    return checkpoint;
+  }
+
+  /**
+   * Writes the cookies and localStorage in one script call and opens the captured URL. A session that is not on the
+   * checkpoint's origin yet (e.g. a fresh browser on {@code about:blank}) first loads the origin, since storage can
+   * only be written from a page of that origin.
+   */
+  public void restore(WebDriver driver) {
+    String origin = getOrigin(url);
+    if (!driver.getCurrentUrl().startsWith(origin)) {
+      driver.get(origin + "/");
+    }
+    List<String> documentCookies = new ArrayList<>();
+    for (Cookie cookie : cookies) {
+      if (cookie.isHttpOnly()) {
+        // document.cookie cannot write HttpOnly cookies.
+        driver.manage().addCookie(cookie);
+      } else {
+        documentCookies.add(toDocumentCookie(cookie));
+      }
+    }
+    ((JavascriptExecutor) driver).executeScript(RESTORE_STATE_SCRIPT, documentCookies, localStorage);
+    driver.get(url);
+    logger.debug("Restored {}", this);
+  }
+
+  public String getUrl() {
+    return url;
+  }
+
+  public Set<Cookie> getCookies() {
+    return cookies;
+  }
+
+  public Map<String, String> getLocalStorage() {
+    return localStorage;
+  }
+
+  private static String getOrigin(String url) {
+    URI uri = URI.create(url);
+    return uri.getScheme() + "://" + uri.getRawAuthority();
+  }
+
+  private static String toDocumentCookie(Cookie cookie) {
+    StringBuilder value = new StringBuilder(cookie.getName()).append('=').append(cookie.getValue());
+    value.append("; path=").append(cookie.getPath() != null ? cookie.getPath() : "/");
+    if (cookie.getExpiry() != null) {
+      value.append("; max-age=").append(Math.max(0, (cookie.getExpiry().getTime() - System.currentTimeMillis()) / 1000));
+    }
+    if (cookie.isSecure()) {
+      value.append("; secure");
+    }
+    if (cookie.getSameSite() != null) {
+      value.append("; samesite=").append(cookie.getSameSite());
+    }
+    return value.toString();
+  }
+
+  @Override
+  public String toString() {
+    return "SessionCheckpoint{url=" + url + ", cookies=" + cookies.size() + ", localStorage=" + localStorage.keySet() + "}";
+  }
+}
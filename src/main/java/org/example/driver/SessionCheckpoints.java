@@ -0,0 +1,89 @@
+package org.example.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Checkpoints of named setup sequences, keyed by fixture name and parameters. The first session that needs a
+ * fixture runs the setup and captures the checkpoint; later sessions restore it. Sessions asking for a fixture that
+ * is being built wait for it instead of repeating the setup. Cleared at suite boundaries.
+ */
+public class SessionCheckpoints {
+  private static final Logger logger = LogManager.getLogger(SessionCheckpoints.class);
+
+  private static final Map<Key, CompletableFuture<SessionCheckpoint>> CHECKPOINTS = new ConcurrentHashMap<>();
+  private static final AtomicLong captures = new AtomicLong();
+  private static final AtomicLong restores = new AtomicLong();
+
+  private SessionCheckpoints() {
+  }
+
+  public static boolean isEnabled() {
+    return Boolean.parseBoolean(System.getProperty("session.checkpoints.enabled", "true"));
+  }
+
+  /**
+   * Brings the driver to the state left by {@code setup}, running the setup only if no checkpoint exists yet.
+   */
+  public static void restoreOrCapture(WebDriver driver, String fixtureName, Runnable setup, Object... params) {
+    if (!isEnabled()) {
+      setup.run();
+      return;
+    }
+    Key key = new Key(fixtureName, Arrays.asList(params));
+    CompletableFuture<SessionCheckpoint> created = new CompletableFuture<>();
+    CompletableFuture<SessionCheckpoint> existing = CHECKPOINTS.putIfAbsent(key, created);
+    if (existing == null) {
+      try {
+        setup.run();
+        created.complete(SessionCheckpoint.capture(driver));
+        captures.incrementAndGet();
+        logger.info("Captured checkpoint for fixture {}.", key);
+      } catch (RuntimeException | Error e) {
+        // Let the next session retry the setup instead of failing on a cached error.
+        CHECKPOINTS.remove(key, created);
+        created.completeExceptionally(e);
+        throw e;
+      }
+      return;
+    }
+    SessionCheckpoint checkpoint;
+    try {
+      checkpoint = existing.join();
+    } catch (CompletionException e) {
+      logger.warn("Checkpoint for fixture {} failed in another session. Running the setup.", key);
+      restoreOrCapture(driver, fixtureName, setup, params);
+      return;
+    }
+    checkpoint.restore(driver);
+    restores.incrementAndGet();
+    logger.debug("Restored checkpoint for fixture {}.", key);
+  }
+
+  public static void clear() {
+    CHECKPOINTS.clear();
+    captures.set(0);
+    restores.set(0);
+  }
+
+  public static String getStats() {
+    return "captures=" + captures.get() + ", restores=" + restores.get();
+  }
+
+  private record Key(String fixtureName, List<Object> params) {
+
+    @Override
+    public String toString() {
+      return fixtureName + params;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package org.example.driver;
+
+import org.example.pages.CartPage;
+import org.example.pages.CartStorage;
+import org.example.pages.CheckoutPage;
+import org.example.pages.HeaderPage;
+import org.example.pages.ItemDetailPage;
+import org.example.pages.LoginPage;
+import org.example.pages.ProductPage;
+import org.openqa.selenium.WebDriver;
+
+public class SessionContext {
+  private final WebDriver driver;
+  private final BrowserProfile profile;
+  private LoginPage loginPage;
+  private ProductPage productPage;
+  private HeaderPage headerPage;
+  private CartPage cartPage;
+  private CheckoutPage checkoutPage;
+  private ItemDetailPage itemDetailPage;
+  private CartStorage cartStorage;
+
+  public SessionContext(WebDriver driver, BrowserProfile profile) {
+    this.driver = driver;
+    this.profile = profile;
+  }
+
+  public WebDriver getDriver() {
+    return driver;
+  }
+
+  public BrowserProfile getProfile() {
+    return profile;
+  }
+
+  public LoginPage getLoginPage() {
+    if (loginPage == null) {
+      loginPage = new LoginPage(driver);
+    }
+    return loginPage;
+  }
+
+  public ProductPage getProductPage() {
+    if (productPage == null) {
+      productPage = new ProductPage(driver);
+    }
+    return productPage;
+  }
+
+  public HeaderPage getHeaderPage() {
+    if (headerPage == null) {
+      headerPage = new HeaderPage(driver);
+    }
+    return headerPage;
+  }
+
+  public CartPage getCartPage() {
+    if (cartPage == null) {
+      cartPage = new CartPage(driver);
+    }
+    return cartPage;
+  }
+
+  public CheckoutPage getCheckoutPage() {
+    if (checkoutPage == null) {
+      checkoutPage = new CheckoutPage(driver);
+    }
+    return checkoutPage;
+  }
+
+  public ItemDetailPage getItemDetailPage() {
+    if (itemDetailPage == null) {
+      itemDetailPage = new ItemDetailPage(driver);
+    }
+    return itemDetailPage;
+  }
+
+  public CartStorage getCartStorage() {
+    if (cartStorage == null) {
+      cartStorage = new CartStorage(driver);
+    }
+    return cartStorage;
+  }
+}
@@ -0,0 +1,90 @@
+package org.example.driver.replay;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-thread WebDriver command recordings, saved as one JSON line per command. Recording is on when
+ * {@code -Ddriver.record.dir} is set; each test is written to {@code <dir>/<name>.jsonl}.
+ */
+public class CommandRecorder {
+  private static final Logger logger = LogManager.getLogger(CommandRecorder.class);
+
+  private static final ThreadLocal<List<RecordedCommand>> COMMANDS = ThreadLocal.withInitial(ArrayList::new);
+
+  private CommandRecorder() {
+  }
+
+  public static boolean isEnabled() {
+    return System.getProperty("driver.record.dir") != null;
+  }
+
+  public static void record(RecordedCommand command) {
+    COMMANDS.get().add(command);
+  }
+
+  public static void reset() {
+    COMMANDS.get().clear();
+  }
+
+  /**
+   * Returns the commands recorded on the current thread since the last reset, and resets.
+   */
+  public static List<RecordedCommand> drain() {
+    List<RecordedCommand> commands = new ArrayList<>(COMMANDS.get());
+    COMMANDS.get().clear();
+    return commands;
+  }
+
+  public static Path save(String name) {
+    Path target = Paths.get(System.getProperty("driver.record.dir", "target/recordings"))
+        .resolve(name.replaceAll("[^A-Za-z0-9._-]", "_") + ".jsonl");
+    List<RecordedCommand> commands = drain();
+    write(target, commands);
+    logger.debug("Recorded {} commands to {}", commands.size(), target);
+    return target;
+  }
+
+  public static void write(Path target, List<RecordedCommand> commands) {
+    Json json = new Json();
+    List<String> lines = new ArrayList<>(commands.size());
+    for (RecordedCommand command : commands) {
+      StringBuilder line = new StringBuilder();
+      json.newOutput(line).setPrettyPrint(false).write(command.toMap());
+      lines.add(line.toString());
+    }
+    try {
+      if (target.getParent() != null) {
+        Files.createDirectories(target.getParent());
+      }
+      Files.write(target, lines, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write recording " + target, e);
+    }
+  }
+
+  public static List<RecordedCommand> read(Path source) {
+    Json json = new Json();
+    List<RecordedCommand> commands = new ArrayList<>();
+    try {
+      for (String line : Files.readAllLines(source, StandardCharsets.UTF_8)) {
+        if (!line.isBlank()) {
+          commands.add(RecordedCommand.fromMap(json.toType(line, Json.MAP_TYPE)));
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read recording " + source, e);
+    }
+    return commands;
+  }
+}
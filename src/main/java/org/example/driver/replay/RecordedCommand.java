@@ -0,0 +1,126 @@
+package org.example.driver.replay;
+
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Response;
+
+import java.lang.reflect.Constructor;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * One WebDriver command and the response the browser returned for it, as stored in a recording.
+ * Parameters and values are kept in their JSON form, so recorded and replayed commands compare by value.
+ */
+public record RecordedCommand(String name, Map<String, Object> params, Integer status, String state, Object value,
+                              String errorType, String errorMessage) {
+  private static final Json JSON = new Json();
+  private static final int DESCRIBE_LIMIT = 80;
+
+  static RecordedCommand of(Command command, Response response) {
+    Object value = response.getValue();
+    if (value instanceof Throwable error) {
+      return new RecordedCommand(command.getName(), normalize(command.getParameters()), response.getStatus(),
+          response.getState(), null, error.getClass().getName(), getRawMessage(error));
+    }
+    return new RecordedCommand(command.getName(), normalize(command.getParameters()), response.getStatus(),
+        response.getState(), toJsonValue(value), null, null);
+  }
+
+  static RecordedCommand of(Command command, WebDriverException error) {
+    return new RecordedCommand(command.getName(), normalize(command.getParameters()), null, null, null,
+        error.getClass().getName(), error.getRawMessage());
+  }
+
+  static Map<String, Object> normalize(Map<String, ?> params) {
+    return params == null || params.isEmpty() ? Map.of() : JSON.toType(JSON.toJson(params), Json.MAP_TYPE);
+  }
+
+  public boolean isError() {
+    return errorType != null;
+  }
+
+  public boolean matches(String commandName, Map<String, Object> commandParams) {
+    return name.equals(commandName) && params.equals(commandParams);
+  }
+
+  Response toResponse(String sessionId) {
+    Response response = new Response();
+    response.setSessionId(sessionId);
+    response.setStatus(status != null ? status : 0);
+    response.setState(state != null ? state : "success");
+    response.setValue(isError() ? toException() : value);
+    return response;
+  }
+
+  WebDriverException toException() {
+    try {
+      Constructor<?> constructor = Class.forName(errorType).getConstructor(String.class);
+      Object error = constructor.newInstance(errorMessage);
+      if (error instanceof WebDriverException webDriverException) {
+        return webDriverException;
+      }
+    } catch (ReflectiveOperationException | LinkageError e) {
+      // Fall through to a plain WebDriverException carrying the recorded type.
+    }
+    return new WebDriverException(errorType + ": " + errorMessage);
+  }
+
+  Map<String, Object> toMap() {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("name", name);
+    map.put("params", params);
+    if (status != null) {
+      map.put("status", status);
+    }
+    if (state != null) {
+      map.put("state", state);
+    }
+    if (isError()) {
+      map.put("errorType", errorType);
+      map.put("errorMessage", errorMessage);
+    } else {
+      map.put("value", value);
+    }
+    return map;
+  }
+
+  @SuppressWarnings("unchecked")
+  static RecordedCommand fromMap(Map<String, Object> map) {
+    Object params = map.get("params");
+    Object status = map.get("status");
+    return new RecordedCommand(
+        (String) map.get("name"),
+        params == null ? Map.of() : (Map<String, Object>) params,
+        status == null ? null : ((Number) status).intValue(),
+        (String) map.get("state"),
+        map.get("value"),
+        (String) map.get("errorType"),
+        (String) map.get("errorMessage"));
+  }
+
+  private static Object toJsonValue(Object value) {
+    return value == null ? null : JSON.toType(JSON.toJson(value), Object.class);
+  }
+
+  private static String getRawMessage(Throwable error) {
+    return error instanceof WebDriverException webDriverException ? webDriverException.getRawMessage() : error.getMessage();
+  }
+
+  @Override
+  public String toString() {
+    return describe(name, params);
+  }
+
+  // Long values such as script sources are shortened so deviation reports stay readable.
+  static String describe(String name, Map<String, Object> params) {
+    StringJoiner description = new StringJoiner(", ", name + "{", "}");
+    params.forEach((key, value) -> {
+      String text = String.valueOf(value).replaceAll("\\s+", " ").trim();
+      description.add(key + "=" + (text.length() > DESCRIBE_LIMIT ? text.substring(0, DESCRIBE_LIMIT) + "..." : text));
+    });
+    return description.toString();
+  }
+}
@@ -0,0 +1,25 @@
+package org.example.driver.replay;
+
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+/**
+ * A {@link ChromeDriver} whose commands after session start are recorded by {@link CommandRecorder}.
+ */
+public class RecordingChromeDriver extends ChromeDriver {
+
+  public RecordingChromeDriver() {
+    this(new ChromeOptions());
+  }
+
+  public RecordingChromeDriver(ChromeOptions options) {
+    super(options);
+    setCommandExecutor(new RecordingCommandExecutor(getCommandExecutor()));
+  }
+
+  public RecordingChromeDriver(ChromeDriverService service, ChromeOptions options) {
+    super(service, options);
+    setCommandExecutor(new RecordingCommandExecutor(getCommandExecutor()));
+  }
+}
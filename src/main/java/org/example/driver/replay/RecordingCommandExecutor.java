@@ -0,0 +1,39 @@
+package org.example.driver.replay;
+
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+
+import java.io.IOException;
+
+/**
+ * Passes commands to the real executor and hands every command/response pair to {@link CommandRecorder}.
+ */
+public class RecordingCommandExecutor implements CommandExecutor {
+  private final CommandExecutor delegate;
+
+  public RecordingCommandExecutor(CommandExecutor delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public Response execute(Command command) throws IOException {
+    if (DriverCommand.NEW_SESSION.equals(command.getName()) || DriverCommand.QUIT.equals(command.getName())) {
+      // A replay starts and ends its own session. Quits also run on reaper threads, whose recordings nobody drains.
+      return delegate.execute(command);
+    }
+    Response response;
+    try {
+      response = delegate.execute(command);
+    } catch (WebDriverException e) {
+      CommandRecorder.record(RecordedCommand.of(command, e));
+      throw e;
+    }
+    if (response != null) {
+      CommandRecorder.record(RecordedCommand.of(command, response));
+    }
+    return response;
+  }
+}
@@ -0,0 +1,97 @@
+package org.example.driver.replay;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves recorded responses in order. In strict mode any command that differs from the next recorded one fails.
+ * In lenient mode a command that matches a later recorded one skips ahead to it, and a command recorded with other
+ * parameters still gets the recorded response; both are reported as deviations.
+ */
+public class ReplayCommandExecutor implements CommandExecutor {
+  private static final Logger logger = LogManager.getLogger(ReplayCommandExecutor.class);
+
+  static final String SESSION_ID = "replay";
+
+  private final List<RecordedCommand> commands;
+  private final boolean strict;
+  private final List<ReplayDeviation> deviations = new ArrayList<>();
+  private int position;
+
+  public ReplayCommandExecutor(List<RecordedCommand> commands, boolean strict) {
+    this.commands = List.copyOf(commands);
+    this.strict = strict;
+  }
+
+  @Override
+  public synchronized Response execute(Command command) {
+    if (DriverCommand.NEW_SESSION.equals(command.getName())) {
+      return success(Map.of("browserName", SESSION_ID));
+    }
+    Map<String, Object> params = RecordedCommand.normalize(command.getParameters());
+    if (position < commands.size() && commands.get(position).matches(command.getName(), params)) {
+      return serve(position);
+    }
+    if (DriverCommand.QUIT.equals(command.getName())) {
+      return success(null);
+    }
+    String actual = RecordedCommand.describe(command.getName(), params);
+    if (!strict) {
+      for (int i = position + 1; i < commands.size(); i++) {
+        if (commands.get(i).matches(command.getName(), params)) {
+          for (int skipped = position; skipped < i; skipped++) {
+            report(new ReplayDeviation(skipped, ReplayDeviation.Kind.SKIPPED, commands.get(skipped).toString(), actual));
+          }
+          return serve(i);
+        }
+      }
+      if (position < commands.size() && commands.get(position).name().equals(command.getName())) {
+        report(new ReplayDeviation(position, ReplayDeviation.Kind.PARAMS_CHANGED, commands.get(position).toString(), actual));
+        return serve(position);
+      }
+    }
+    String expected = position < commands.size() ? commands.get(position).toString() : "end of recording";
+    ReplayDeviation deviation = new ReplayDeviation(position, ReplayDeviation.Kind.UNEXPECTED, expected, actual);
+    report(deviation);
+    throw new ReplayDeviationException(deviation);
+  }
+
+  public synchronized List<ReplayDeviation> getDeviations() {
+    List<ReplayDeviation> all = new ArrayList<>(deviations);
+    for (int i = position; i < commands.size(); i++) {
+      all.add(new ReplayDeviation(i, ReplayDeviation.Kind.NOT_REPLAYED, commands.get(i).toString(), "none"));
+    }
+    return all;
+  }
+
+  public synchronized int getRemainingCommands() {
+    return commands.size() - position;
+  }
+
+  private Response serve(int index) {
+    position = index + 1;
+    return commands.get(index).toResponse(SESSION_ID);
+  }
+
+  private void report(ReplayDeviation deviation) {
+    deviations.add(deviation);
+    logger.warn("Replay deviation {}", deviation);
+  }
+
+  private static Response success(Object value) {
+    Response response = new Response();
+    response.setSessionId(SESSION_ID);
+    response.setStatus(0);
+    response.setState("success");
+    response.setValue(value);
+    return response;
+  }
+}
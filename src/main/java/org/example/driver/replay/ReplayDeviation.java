@@ -0,0 +1,23 @@
+package org.example.driver.replay;
+
+/**
+ * A difference between the commands a replayed test sent and the recorded sequence.
+ */
+public record ReplayDeviation(int index, Kind kind, String expected, String actual) {
+
+  public enum Kind {
+    /** The command is not in the recording at this point. */
+    UNEXPECTED,
+    /** Same command as recorded, different parameters; the recorded response was served. */
+    PARAMS_CHANGED,
+    /** Recorded command passed over to resynchronize with a later one. */
+    SKIPPED,
+    /** Recorded command never requested by the replay. */
+    NOT_REPLAYED
+  }
+
+  @Override
+  public String toString() {
+    return "#" + index + " " + kind + ": expected " + expected + ", actual " + actual;
+  }
+}
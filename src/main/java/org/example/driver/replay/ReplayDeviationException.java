@@ -0,0 +1,14 @@
+package org.example.driver.replay;
+
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Thrown when a replayed command has no recorded response to serve.
+ */
+public class ReplayDeviationException extends WebDriverException {
+  private static final long serialVersionUID = 1L;
+
+  public ReplayDeviationException(ReplayDeviation deviation) {
+    super("Replay deviated from the recording: " + deviation);
+  }
+}
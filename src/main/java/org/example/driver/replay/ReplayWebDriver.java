@@ -0,0 +1,47 @@
+package org.example.driver.replay;
+
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link RemoteWebDriver} that answers from a recording instead of a browser, so page objects can be exercised
+ * without Chrome. Elements, scripts and errors come back exactly as recorded. The driver does not expose CDP.
+ */
+public class ReplayWebDriver extends RemoteWebDriver {
+
+  public ReplayWebDriver(List<RecordedCommand> commands, boolean strict) {
+    super(new ReplayCommandExecutor(commands, strict), new ImmutableCapabilities("browserName", ReplayCommandExecutor.SESSION_ID));
+  }
+
+  public static ReplayWebDriver load(Path recording, boolean strict) {
+    return new ReplayWebDriver(CommandRecorder.read(recording), strict);
+  }
+
+  public List<ReplayDeviation> getDeviations() {
+    return getReplayExecutor().getDeviations();
+  }
+
+  public int getRemainingCommands() {
+    return getReplayExecutor().getRemainingCommands();
+  }
+
+  /**
+   * Fails if the replay deviated from the recording or left recorded commands unused.
+   */
+  public void verifyReplayed() {
+    List<ReplayDeviation> deviations = getDeviations();
+    if (!deviations.isEmpty()) {
+      throw new IllegalStateException("Replay deviated from the recording:\n" + deviations.stream()
+          .map(ReplayDeviation::toString)
+          .collect(Collectors.joining("\n")));
+    }
+  }
+
+  private ReplayCommandExecutor getReplayExecutor() {
+    return (ReplayCommandExecutor) getCommandExecutor();
+  }
+}
@@ -0,0 +1,126 @@
+package org.example.metrics;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * Times every call that goes through an {@link org.openqa.selenium.support.events.EventFiringDecorator}
+ * and records it in {@link CommandMetrics}, attributed to the page-object method that issued it.
+ */
+public class CommandLatencyListener implements WebDriverListener {
+  private static final String PAGES_PACKAGE = "org.example.pages.";
+  private static final String BASE_PAGE = PAGES_PACKAGE + "BasePage";
+  private static final String[] FRAMEWORK_PREFIXES = {
+      "java.", "jdk.", "sun.", "com.sun.", "org.openqa.", "org.testng.", "org.apache.maven.", "org.example.metrics.",
+      "org.example.driver."};
+
+  // Calls that only hand out a local wrapper and never reach the driver.
+  private static final Set<String> LOCAL_CALLS = Set.of(
+      "manage", "navigate", "switchTo", "timeouts", "window", "logs", "getWrappedDriver", "getWrappedElement",
+      "equals", "hashCode", "toString");
+
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+  private final ThreadLocal<Deque<PendingCall>> pending = ThreadLocal.withInitial(ArrayDeque::new);
+
+  @Override
+  public void beforeAnyCall(Object target, Method method, Object[] args) {
+    if (LOCAL_CALLS.contains(method.getName())) {
+      return;
+    }
+    String caller = resolveCaller();
+    pending.get().push(new PendingCall(commandName(target, method), caller, System.nanoTime()));
+  }
+
+  @Override
+  public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+    complete(method);
+  }
+
+  @Override
+  public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+    complete(method);
+  }
+
+  private void complete(Method method) {
+    if (LOCAL_CALLS.contains(method.getName())) {
+      return;
+    }
+    PendingCall call = pending.get().poll();
+    if (call != null) {
+      CommandMetrics.record(call.command(), call.caller(), System.nanoTime() - call.startNanos());
+    }
+  }
+
+  private static String commandName(Object target, Method method) {
+    if (target instanceof WebDriver.Navigation) {
+      return "navigate." + method.getName();
+    }
+    if (target instanceof WebDriver.Options) {
+      return "manage." + method.getName();
+    }
+    if (target instanceof WebDriver.TargetLocator) {
+      return "switchTo." + method.getName();
+    }
+    return method.getName();
+  }
+
+  // Innermost page-object frame, skipping BasePage helpers so findElementIfExist etc. are charged to the page
+  // that used them. Falls back to the first non-framework frame (usually the test method).
+  private static String resolveCaller() {
+    return STACK_WALKER.walk(frames -> {
+      String fallback = null;
+      String basePageFrame = null;
+      for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+        String className = frame.getClassName();
+        if (className.startsWith(PAGES_PACKAGE)) {
+          if (!className.equals(BASE_PAGE)) {
+            return describe(frame);
+          }
+          if (basePageFrame == null) {
+            basePageFrame = describe(frame);
+          }
+        } else if (fallback == null && !isFramework(className)) {
+          fallback = describe(frame);
+        }
+      }
+      if (basePageFrame != null) {
+        return basePageFrame;
+      }
+      return fallback != null ? fallback : "unknown";
+    });
+  }
+
+  private static boolean isFramework(String className) {
+    for (String prefix : FRAMEWORK_PREFIXES) {
+      if (className.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String describe(StackWalker.StackFrame frame) {
+    String className = frame.getClassName();
+    String simpleName = className.substring(className.lastIndexOf('.') + 1);
+    int nested = simpleName.indexOf('$');
+    if (nested > 0) {
+      simpleName = simpleName.substring(0, nested);
+    }
+    String methodName = frame.getMethodName();
+    if (methodName.startsWith("lambda$")) {
+      int end = methodName.indexOf('$', "lambda$".length());
+      methodName = methodName.substring("lambda$".length(), end > 0 ? end : methodName.length());
+    }
+    return simpleName + "." + methodName;
+  }
+
+  private record PendingCall(String command, String caller, long startNanos) {
+  }
+}
@@ -0,0 +1,131 @@
+package org.example.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-thread WebDriver command latency histograms, keyed by command and the page-object method that issued it.
+ * A session runs on one thread, so the histograms of a thread belong to the test that currently owns it.
+ */
+public class CommandMetrics {
+  private static final Logger logger = LogManager.getLogger(CommandMetrics.class);
+
+  private static final int SIGNIFICANT_DIGITS = 3;
+  private static final ThreadLocal<Map<CommandKey, Histogram>> HISTOGRAMS = ThreadLocal.withInitial(HashMap::new);
+
+  private static Writer reportWriter;
+
+  private CommandMetrics() {
+  }
+
+  public static boolean isEnabled() {
+    return Boolean.parseBoolean(System.getProperty("command.metrics.enabled", "true"));
+  }
+
+  public static void record(String command, String caller, long nanos) {
+    HISTOGRAMS.get()
+        .computeIfAbsent(new CommandKey(command, caller), key -> new Histogram(SIGNIFICANT_DIGITS))
+        .recordValue(Math.max(1, nanos / 1_000));
+  }
+
+  public static void reset() {
+    HISTOGRAMS.get().clear();
+  }
+
+  /**
+   * Returns the stats collected on the current thread since the last reset, slowest total first, and resets.
+   */
+  public static List<CommandStats> drain() {
+    Map<CommandKey, Histogram> histograms = HISTOGRAMS.get();
+    List<CommandStats> stats = new ArrayList<>(histograms.size());
+    histograms.forEach((key, histogram) -> stats.add(new CommandStats(
+        key.command(),
+        key.caller(),
+        histogram.getTotalCount(),
+        histogram.getValueAtPercentile(50),
+        histogram.getValueAtPercentile(99),
+        histogram.getMaxValue(),
+        Math.round(histogram.getMean() * histogram.getTotalCount()))));
+    histograms.clear();
+    stats.sort(Comparator.comparingLong(CommandStats::totalMicros).reversed());
+    return stats;
+  }
+
+  /**
+   * Appends one JSON line per test to {@code command.metrics.file} (default {@code target/command-latency.jsonl}).
+   * The file is truncated on the first write of each JVM.
+   */
+  public static synchronized void writeReport(String testName, String status, List<CommandStats> stats) {
+    Map<String, Object> line = new LinkedHashMap<>();
+    line.put("test", testName);
+    line.put("status", status);
+    line.put("commands", stats.stream().map(CommandStats::toMap).toList());
+    try {
+      if (reportWriter == null) {
+        Path path = Paths.get(System.getProperty("command.metrics.file", "target/command-latency.jsonl"));
+        if (path.getParent() != null) {
+          Files.createDirectories(path.getParent());
+        }
+        reportWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        Runtime.getRuntime().addShutdownHook(new Thread(CommandMetrics::closeReport, "command-metrics-close"));
+      }
+      StringBuilder json = new StringBuilder();
+      new Json().newOutput(json).setPrettyPrint(false).write(line);
+      reportWriter.write(json.append('\n').toString());
+      reportWriter.flush();
+    } catch (IOException e) {
+      logger.warn("Failed to write command latency report: {}", e.getMessage());
+    }
+  }
+
+  private static synchronized void closeReport() {
+    if (reportWriter == null) {
+      return;
+    }
+    try {
+      reportWriter.close();
+    } catch (IOException e) {
+      logger.warn("Failed to close command latency report: {}", e.getMessage());
+    }
+  }
+
+  private record CommandKey(String command, String caller) {
+  }
+
+  public record CommandStats(String command, String caller, long count, long p50Micros, long p99Micros,
+                             long maxMicros, long totalMicros) {
+
+    Map<String, Object> toMap() {
+      Map<String, Object> map = new LinkedHashMap<>();
+      map.put("command", command);
+      map.put("caller", caller);
+      map.put("count", count);
+      map.put("p50Micros", p50Micros);
+      map.put("p99Micros", p99Micros);
+      map.put("maxMicros", maxMicros);
+      map.put("totalMicros", totalMicros);
+      return map;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%-24s %-40s count=%-4d p50=%.1fms p99=%.1fms max=%.1fms total=%.1fms",
+          command, caller, count, p50Micros / 1000.0, p99Micros / 1000.0, maxMicros / 1000.0, totalMicros / 1000.0);
+    }
+  }
+}
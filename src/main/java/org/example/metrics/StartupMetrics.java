@@ -0,0 +1,49 @@
+package org.example.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JVM-wide cost of getting browsers up: the one-time driver binary resolution and every browser session start.
+ */
+public class StartupMetrics {
+  private static volatile String driverResolutionSource;
+  private static volatile long driverResolutionNanos;
+  private static final AtomicLong sessionStarts = new AtomicLong();
+  private static final AtomicLong totalSessionStartNanos = new AtomicLong();
+  private static final AtomicLong maxSessionStartNanos = new AtomicLong();
+
+  private StartupMetrics() {
+  }
+
+  public static void recordDriverResolution(String source, long nanos) {
+    driverResolutionSource = source;
+    driverResolutionNanos = nanos;
+  }
+
+  public static void recordSessionStart(long nanos) {
+    sessionStarts.incrementAndGet();
+    totalSessionStartNanos.addAndGet(nanos);
+    maxSessionStartNanos.accumulateAndGet(nanos, Math::max);
+  }
+
+  public static StartupStats getStats() {
+    return new StartupStats(driverResolutionSource, driverResolutionNanos, sessionStarts.get(),
+        totalSessionStartNanos.get(), maxSessionStartNanos.get());
+  }
+
+  public record StartupStats(String driverResolutionSource, long driverResolutionNanos, long sessionStarts,
+                             long totalSessionStartNanos, long maxSessionStartNanos) {
+
+    public double averageSessionStartMillis() {
+      return sessionStarts == 0 ? 0 : totalSessionStartNanos / 1_000_000.0 / sessionStarts;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("driverResolution=%s in %.1fms, sessionStarts=%d, avgSessionStart=%.1fms, "
+              + "maxSessionStart=%.1fms",
+          driverResolutionSource != null ? driverResolutionSource : "none", driverResolutionNanos / 1_000_000.0,
+          sessionStarts, averageSessionStartMillis(), maxSessionStartNanos / 1_000_000.0);
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package org.example.metrics;
+
+/**
+ * Per-thread totals of the waits done by page objects, with the time each wait used out of its budget.
+ */
+public class WaitMetrics {
+  private static final ThreadLocal<WaitStats> STATS = ThreadLocal.withInitial(WaitStats::new);
+
+  private WaitMetrics() {
+  }
+
+  public static void record(long waitedNanos, long budgetNanos, boolean met, boolean polled) {
+    WaitStats stats = STATS.get();
+    stats.waits++;
+    if (!met) {
+      stats.timeouts++;
+    }
+    if (polled) {
+      stats.polled++;
+    }
+    stats.totalWaitNanos += waitedNanos;
+    stats.maxWaitNanos = Math.max(stats.maxWaitNanos, waitedNanos);
+    if (budgetNanos > 0) {
+      stats.maxBudgetUsed = Math.max(stats.maxBudgetUsed, (double) waitedNanos / budgetNanos);
+    }
+  }
+
+  /**
+   * Returns the stats collected on the current thread since the last drain and resets them.
+   */
+  public static WaitStats drain() {
+    WaitStats stats = STATS.get();
+    STATS.remove();
+    return stats;
+  }
+
+  public static class WaitStats {
+    private long waits;
+    private long timeouts;
+    private long polled;
+    private long totalWaitNanos;
+    private long maxWaitNanos;
+    private double maxBudgetUsed;
+
+    public long getWaits() {
+      return waits;
+    }
+
+    public long getTimeouts() {
+      return timeouts;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("waits=%d, timeouts=%d, polled=%d, total=%.1fms, max=%.1fms, maxBudgetUsed=%.0f%%",
+          waits, timeouts, polled, totalWaitNanos / 1_000_000.0, maxWaitNanos / 1_000_000.0, maxBudgetUsed * 100);
+    }
+  }
+}
@@ -6,11 +6,11 @@ public class Item {
 
   private final String name;
   private final String description;
-  private final Double price;
+  private final Money price;
   private String imageSrc;
 
 
-  public Item(String name, String description, Double price, String image) {
+  public Item(String name, String description, Money price, String image) {
     this.name = name;
     this.description = description;
     this.price = price;
@@ -18,7 +18,7 @@ public class Item {
   }
 
 
-  public Item(String name, String description, Double price) {
+  public Item(String name, String description, Money price) {
     this.name = name;
     this.description = description;
     this.price = price;
@@ -32,7 +32,7 @@ public class Item {
     return description;
   }
 
-  public Double getPrice() {
+  public Money getPrice() {
     return price;
   }
 
@@ -42,7 +42,7 @@ public class Item {
 
   @Override
   public String toString() {
-    return String.format("Name: %s, Description: %s, Price: %.2f, ImageSrc: %s",
+    return String.format("Name: %s, Description: %s, Price: %s, ImageSrc: %s",
         name, description, price, imageSrc);
   }
 
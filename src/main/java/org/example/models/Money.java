@@ -0,0 +1,106 @@
+package org.example.models;
+
+public final class Money implements Comparable<Money> {
+  public static final Money ZERO = new Money(0);
+
+  private static final long BASIS_POINTS_PER_UNIT = 10_000;
+
+  private final long cents;
+
+  private Money(long cents) {
+    this.cents = cents;
+  }
+
+  public static Money ofCents(long cents) {
+    return cents == 0 ? ZERO : new Money(cents);
+  }
+
+  // Reads the first amount in text such as "$29.99" or "Item total: $39.98".
+  // Characters other than digits and '.' are skipped, fractions beyond cents are rounded half up.
+  public static Money parse(CharSequence text) {
+    if (text == null) {
+      throw new NumberFormatException("Cannot parse price from null.");
+    }
+    long units = 0;
+    long fraction = 0;
+    int fractionDigits = 0;
+    boolean seenDigit = false;
+    boolean inFraction = false;
+    boolean roundUp = false;
+    for (int i = 0, length = text.length(); i < length; i++) {
+      char c = text.charAt(i);
+      if (c == '.') {
+        if (inFraction) {
+          break;
+        }
+        inFraction = true;
+      } else if (c >= '0' && c <= '9') {
+        seenDigit = true;
+        int digit = c - '0';
+        if (!inFraction) {
+          units = Math.addExact(Math.multiplyExact(units, 10), digit);
+        } else if (fractionDigits < 2) {
+          fraction = fraction * 10 + digit;
+          fractionDigits++;
+        } else if (fractionDigits == 2) {
+          roundUp = digit >= 5;
+          fractionDigits++;
+        }
+      } else if (seenDigit) {
+        break;
+      }
+    }
+    if (!seenDigit) {
+      throw new NumberFormatException("No price found in: \"" + text + "\"");
+    }
+    if (fractionDigits == 1) {
+      fraction *= 10;
+    }
+    long cents = Math.addExact(Math.multiplyExact(units, 100), fraction);
+    return ofCents(roundUp ? cents + 1 : cents);
+  }
+
+  public long getCents() {
+    return cents;
+  }
+
+  public Money plus(Money other) {
+    return ofCents(Math.addExact(cents, other.cents));
+  }
+
+  // Applies a rate given in basis points (800 = 8%), rounding half up to whole cents.
+  public Money applyRate(long basisPoints) {
+    long scaled = Math.multiplyExact(cents, basisPoints);
+    long half = BASIS_POINTS_PER_UNIT / 2;
+    long rounded = scaled >= 0 ? (scaled + half) / BASIS_POINTS_PER_UNIT : -((-scaled + half) / BASIS_POINTS_PER_UNIT);
+    return ofCents(rounded);
+  }
+
+  public boolean isPositive() {
+    return cents > 0;
+  }
+
+  @Override
+  public int compareTo(Money other) {
+    return Long.compare(cents, other.cents);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof Money that)) return false;
+    return cents == that.cents;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(cents);
+  }
+
+  @Override
+  public String toString() {
+    long absolute = Math.abs(cents);
+    long fraction = absolute % 100;
+    return (cents < 0 ? "-" : "") + absolute / 100 + (fraction < 10 ? ".0" : ".") + fraction;
+  }
+}
@@ -0,0 +1,51 @@
+package org.example.models;
+
+import java.util.List;
+
+public class OrderSummary {
+  private final List<Item> items;
+  private final Money itemTotal;
+  private final Money tax;
+  private final Money total;
+
+  public OrderSummary(List<Item> items, Money itemTotal, Money tax, Money total) {
+    this.items = List.copyOf(items);
+    this.itemTotal = itemTotal;
+    this.tax = tax;
+    this.total = total;
+  }
+
+  public List<Item> getItems() {
+    return items;
+  }
+
+  public Money getItemTotal() {
+    return itemTotal;
+  }
+
+  public Money getTax() {
+    return tax;
+  }
+
+  public Money getTotal() {
+    return total;
+  }
+
+  public Money calculateItemTotal() {
+    return items.stream().map(Item::getPrice).reduce(Money.ZERO, Money::plus);
+  }
+
+  public Money calculateTax(long taxBasisPoints) {
+    return calculateItemTotal().applyRate(taxBasisPoints);
+  }
+
+  public Money calculateTotal(long taxBasisPoints) {
+    Money calculatedItemTotal = calculateItemTotal();
+    return calculatedItemTotal.plus(calculatedItemTotal.applyRate(taxBasisPoints));
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Items: %s, Item total: %s, Tax: %s, Total: %s", items, itemTotal, tax, total);
+  }
+}
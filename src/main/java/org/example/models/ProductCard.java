@@ -3,30 +3,43 @@ package org.example.models;
 import org.openqa.selenium.WebElement;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 public class ProductCard {
   private final Item itemDetails;
-  private final WebElement nameLink;
-  private WebElement imageLink;
-  private WebElement addOrRemoveButton;
+  private final Supplier<WebElement> nameLink;
+  private Supplier<WebElement> imageLink;
+  private Supplier<WebElement> addOrRemoveButton;
+  private Supplier<WebElement> addOrRemoveButtonLocator;
+  private String buttonText;
 
 
   public ProductCard(Item itemDetails, WebElement nameLink, WebElement addOrRemoveButton) {
     this.itemDetails = itemDetails;
-    this.nameLink = nameLink;
-    this.addOrRemoveButton = addOrRemoveButton;
+    this.nameLink = resolved(nameLink);
+    this.addOrRemoveButton = resolved(addOrRemoveButton);
   }
 
   public ProductCard(Item itemDetails, WebElement nameLink) {
     this.itemDetails = itemDetails;
-    this.nameLink = nameLink;
+    this.nameLink = resolved(nameLink);
   }
 
   public ProductCard(Item itemDetails, WebElement nameLink, WebElement imageLink, WebElement addOrRemoveButton) {
     this.itemDetails = itemDetails;
-    this.nameLink = nameLink;
-    this.imageLink = imageLink;
-    this.addOrRemoveButton = addOrRemoveButton;
+    this.nameLink = resolved(nameLink);
+    this.imageLink = resolved(imageLink);
+    this.addOrRemoveButton = resolved(addOrRemoveButton);
+  }
+
+  public ProductCard(Item itemDetails, String buttonText, Supplier<WebElement> nameLink,
+                     Supplier<WebElement> imageLink, Supplier<WebElement> addOrRemoveButton) {
+    this.itemDetails = itemDetails;
+    this.buttonText = buttonText;
+    this.nameLink = lazy(nameLink);
+    this.imageLink = lazy(imageLink);
+    this.addOrRemoveButtonLocator = addOrRemoveButton;
+    this.addOrRemoveButton = lazy(addOrRemoveButton);
   }
 
   public Item getItemDetails() {
@@ -34,27 +47,45 @@ public class ProductCard {
   }
 
   public void clickNameLink() {
-    nameLink.click();
+    nameLink.get().click();
   }
 
   public boolean isAddOrRemoveButtonDisplayed() {
-    return addOrRemoveButton.isDisplayed();
+    return addOrRemoveButton.get().isDisplayed();
   }
 
   public boolean isAddOrRemoveButtonClickable() {
-    return addOrRemoveButton.isDisplayed() && addOrRemoveButton.isEnabled();
+    WebElement button = addOrRemoveButton.get();
+    return button.isDisplayed() && button.isEnabled();
   }
 
   public void clickAddOrRemoveButton() {
-    addOrRemoveButton.click();
+    addOrRemoveButton.get().click();
+    buttonText = null;
   }
 
   public String getActualNameButton() {
-    return addOrRemoveButton.getText();
+    return addOrRemoveButton.get().getText();
+  }
+
+  // Button text captured when the card was built; null once the button has been clicked.
+  public String getButtonText() {
+    return buttonText;
+  }
+
+  /**
+   * Records the button text read after the page changed the button, e.g. by a batch cart operation.
+   * The button may have been re-rendered, so a lazily located button is looked up again on next use.
+   */
+  public void refreshButton(String buttonText) {
+    this.buttonText = buttonText;
+    if (addOrRemoveButtonLocator != null) {
+      addOrRemoveButton = lazy(addOrRemoveButtonLocator);
+    }
   }
 
   public void clickImageNameLink() {
-    imageLink.click();
+    imageLink.get().click();
   }
 
 
@@ -67,12 +98,30 @@ public class ProductCard {
 
   @Override
   public int hashCode() {
-    return Objects.hash(itemDetails, addOrRemoveButton);
+    return Objects.hash(itemDetails);
   }
 
   @Override
   public String toString() {
-    return String.format("Name: %s, Description: %s, Price: %.2f, ImageSrc: %s, Button: %s",
-        itemDetails.getName(), itemDetails.getDescription(), itemDetails.getPrice(), itemDetails.getImageSrc(), getActualNameButton());
+    return String.format("Name: %s, Description: %s, Price: %s, ImageSrc: %s, Button: %s",
+        itemDetails.getName(), itemDetails.getDescription(), itemDetails.getPrice(), itemDetails.getImageSrc(), buttonText);
+  }
+
+  private static Supplier<WebElement> resolved(WebElement element) {
+    return () -> element;
+  }
+
+  private static Supplier<WebElement> lazy(Supplier<WebElement> locator) {
+    return new Supplier<>() {
+      private WebElement element;
+
+      @Override
+      public WebElement get() {
+        if (element == null) {
+          element = locator.get();
+        }
+        return element;
+      }
+    };
   }
 }
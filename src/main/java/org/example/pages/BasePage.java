@@ -2,19 +2,72 @@ package org.example.pages;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.example.metrics.WaitMetrics;
+import org.example.models.Money;
 import org.example.models.ProductCard;
+import org.example.utils.LoggingCallCounter;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 
 public class BasePage {
+  protected static final Duration DEFAULT_WAIT_BUDGET =
+      Duration.ofMillis(Long.getLong("page.wait.budgetMillis", 5_000L));
+
+  private static final long MIN_POLL_MILLIS = 10;
+  private static final long MAX_POLL_MILLIS = 200;
+
+  // Resolves as soon as the condition holds, re-checking on every DOM mutation, or with {met: false} at the budget.
+  // Arguments: using ('css selector', 'tag name' or 'xpath'), value, mode ('presence', 'text' or 'count'),
+  // previous text/count, budget in ms.
+  private static final String AWAIT_CONDITION_SCRIPT = """
+      var using = arguments[0], value = arguments[1], mode = arguments[2], previous = arguments[3];
+      var budget = arguments[4], done = arguments[arguments.length - 1];
+      function query() {
+        if (using === 'xpath') {
+          var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+          var found = [];
+          for (var i = 0; i < snapshot.snapshotLength; i++) found.push(snapshot.snapshotItem(i));
+          return found;
+        }
+        return Array.prototype.slice.call(document.querySelectorAll(value));
+      }
+      function check() {
+        var nodes = query();
+        if (mode === 'count') return nodes.length !== previous ? {met: true, count: nodes.length} : null;
+        if (!nodes.length) return null;
+        if (mode === 'presence') return {met: true, element: nodes[0]};
+        var text = nodes[0].innerText;
+        return text !== previous ? {met: true, element: nodes[0], text: text} : null;
+      }
+      var result = check();
+      if (result) { done(result); return; }
+      var finished = false, timer;
+      var observer = new MutationObserver(function () {
+        if (finished) return;
+        var current = check();
+        if (current) finish(current);
+      });
+      function finish(value) {
+        finished = true;
+        observer.disconnect();
+        clearTimeout(timer);
+        done(value);
+      }
+      observer.observe(document.documentElement,
+          {childList: true, subtree: true, characterData: true, attributes: true});
+      timer = setTimeout(function () { finish({met: false}); }, budget);
+      """;
 
   protected WebDriver driver;
 
@@ -24,11 +77,29 @@ public class BasePage {
     this.driver = driver;
   }
 
+  // Log arguments that need the browser must be passed as lambdas wrapping these helpers,
+  // so the remote call only happens when the level is enabled and is counted per test.
+  protected String currentUrlForLog() {
+    return remoteCallForLog(driver::getCurrentUrl);
+  }
+
+  protected static <T> T remoteCallForLog(Supplier<T> remoteCall) {
+    LoggingCallCounter.increment();
+    return remoteCall.get();
+  }
+
   protected WebElement findElementIfExist(By locator) {
     List<WebElement> element = driver.findElements(locator);
     return element.isEmpty() ? null : element.get(0);
   }
 
+  // For elements the page must show: probes once and only waits when the element is not rendered yet, so the usual
+  // case costs one findElements. Returns null if the default budget runs out.
+  protected WebElement awaitElement(By locator) {
+    List<WebElement> element = driver.findElements(locator);
+    return element.isEmpty() ? waitForElement(locator, DEFAULT_WAIT_BUDGET) : element.get(0);
+  }
+
   protected WebElement findElementIfExist(WebElement element, By locator) {
     try {
       return element.findElement(locator);
@@ -43,19 +114,118 @@ public class BasePage {
     return elements.isEmpty() ? null : elements;
   }
 
-  public static int getRandomItem(List<ProductCard> listProductCard) {
-    return ThreadLocalRandom.current().nextInt(0, listProductCard.size());
+  /**
+   * Waits until an element matching the locator is present. Returns {@code null} if the budget runs out.
+   */
+  protected WebElement waitForElement(By locator, Duration budget) {
+    return awaitCondition(locator, "presence", null, budget).element();
+  }
+
+  /**
+   * Waits until the text of the first matching element differs from {@code previousText}.
+   * Returns the new text, or {@code null} if the budget runs out.
+   */
+  protected String waitForTextChange(By locator, String previousText, Duration budget) {
+    WaitOutcome outcome = awaitCondition(locator, "text", previousText, budget);
+    return outcome.met() ? outcome.text() : null;
   }
 
-  public Double extractDigits(String str) {
-    return Double.parseDouble(str.replaceAll("[^0-9.]", ""));
+  /**
+   * Waits until the number of matching elements differs from {@code previousCount} and returns the new count,
+   * or {@code previousCount} if the budget runs out.
+   */
+  protected int waitForCountChange(By locator, int previousCount, Duration budget) {
+    WaitOutcome outcome = awaitCondition(locator, "count", previousCount, budget);
+    return outcome.met() ? outcome.count() : previousCount;
+  }
 
+  private WaitOutcome awaitCondition(By locator, String mode, Object previous, Duration budget) {
+    long start = System.nanoTime();
+    long budgetNanos = budget.toNanos();
+    WaitOutcome outcome = null;
+    String[] query = toScriptQuery(locator);
+    if (query != null && driver instanceof JavascriptExecutor executor) {
+      try {
+        outcome = WaitOutcome.from(executor.executeAsyncScript(
+            AWAIT_CONDITION_SCRIPT, query[0], query[1], mode, previous, budget.toMillis()));
+      } catch (WebDriverException e) {
+        logger.debug("Event-driven wait for {} failed, polling instead: {}", locator, e.getMessage());
+      }
+    }
+    boolean polled = outcome == null;
+    if (polled) {
+      outcome = poll(locator, mode, previous, start + budgetNanos);
+    }
+    long waited = System.nanoTime() - start;
+    WaitMetrics.record(waited, budgetNanos, outcome.met(), polled);
+    WaitOutcome result = outcome;
+    logger.debug("Wait for {} of {} {} after {} ms of {} ms budget{}.",
+        () -> mode, () -> locator, () -> result.met() ? "met" : "timed out", () -> waited / 1_000_000,
+        budget::toMillis, () -> polled ? " (polled)" : "");
+    return outcome;
+  }
+
+  private WaitOutcome poll(By locator, String mode, Object previous, long deadlineNanos) {
+    long interval = MIN_POLL_MILLIS;
+    while (true) {
+      List<WebElement> elements = driver.findElements(locator);
+      if (mode.equals("count") && elements.size() != (int) previous) {
+        return new WaitOutcome(true, null, null, elements.size());
+      }
+      if (mode.equals("presence") && !elements.isEmpty()) {
+        return new WaitOutcome(true, elements.get(0), null, elements.size());
+      }
+      if (mode.equals("text") && !elements.isEmpty()) {
+        String text = elements.get(0).getText();
+        if (!text.equals(previous)) {
+          return new WaitOutcome(true, elements.get(0), text, elements.size());
+        }
+      }
+      long remainingMillis = (deadlineNanos - System.nanoTime()) / 1_000_000;
+      if (remainingMillis <= 0) {
+        return WaitOutcome.NOT_MET;
+      }
+      try {
+        Thread.sleep(Math.min(interval, remainingMillis));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return WaitOutcome.NOT_MET;
+      }
+      interval = Math.min(interval * 2, MAX_POLL_MILLIS);
+    }
+  }
+
+  private static String[] toScriptQuery(By locator) {
+    if (!(locator instanceof By.Remotable remotable)) {
+      return null;
+    }
+    By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+    String using = parameters.using();
+    if (!using.equals("css selector") && !using.equals("tag name") && !using.equals("xpath")) {
+      return null;
+    }
+    return new String[]{using, String.valueOf(parameters.value())};
+  }
+
+  private record WaitOutcome(boolean met, WebElement element, String text, int count) {
+    private static final WaitOutcome NOT_MET = new WaitOutcome(false, null, null, 0);
+
+    private static WaitOutcome from(Object scriptResult) {
+      if (!(scriptResult instanceof Map<?, ?> result) || !Boolean.TRUE.equals(result.get("met"))) {
+        return NOT_MET;
+      }
+      Object count = result.get("count");
+      return new WaitOutcome(true, (WebElement) result.get("element"), (String) result.get("text"),
+          count instanceof Number number ? number.intValue() : 0);
+    }
+  }
+
+  public static int getRandomItem(List<ProductCard> listProductCard) {
+    return ThreadLocalRandom.current().nextInt(0, listProductCard.size());
   }
 
-  public static double formatToTwoDecimalPlaces(double totalSum) {
-    BigDecimal bd = new BigDecimal(Double.toString(totalSum));
-    bd = bd.setScale(2, RoundingMode.HALF_UP);
-    return bd.doubleValue();
+  public static Money parsePrice(String str) {
+    return Money.parse(str);
   }
 }
 
@@ -1,6 +1,7 @@
 package org.example.pages;
 
 import org.example.models.Item;
+import org.example.models.Money;
 import org.example.models.ProductCard;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
@@ -31,6 +32,10 @@ public class CartPage extends BasePage {
     return listItemsElements != null ? listItemsElements : Collections.emptyList();
   }
 
+  public int waitForItemCountChange(int previousCount) {
+    return waitForCountChange(listItemElements, previousCount, DEFAULT_WAIT_BUDGET);
+  }
+
   public WebElement getContinueShoppingButtonElement() {
     return getElementOrThrow(continueShoppingButtonElement, "Continue Shopping");
   }
@@ -70,9 +75,9 @@ public class CartPage extends BasePage {
   }
 
   private WebElement getElementOrThrow(By locator, String elementName) {
-    WebElement element = findElementIfExist(locator);
+    WebElement element = awaitElement(locator);
     if (element == null) {
-      logger.error("Element '{}' not found on page: {}", elementName, driver.getCurrentUrl());
+      logger.error("Element '{}' not found on page: {}", () -> elementName, () -> currentUrlForLog());
       throw new IllegalStateException(elementName + " element not found.");
     }
     return element;
@@ -81,7 +86,7 @@ public class CartPage extends BasePage {
   private ProductCard buildProductCard(WebElement productCardElement) {
     String name = findElementIfExist(productCardElement, itemNameElement).getText();
     String description = findElementIfExist(productCardElement, itemDescriptionElement).getText();
-    Double price = extractDigits(findElementIfExist(productCardElement, itemPriceElement).getText());
+    Money price = parsePrice(findElementIfExist(productCardElement, itemPriceElement).getText());
     Item itemDetails = new Item(name, description, price);
     WebElement button = findElementIfExist(productCardElement, removeButtonElement);
     WebElement nameLink = findElementIfExist(productCardElement, itemNameElement);
@@ -0,0 +1,57 @@
+package org.example.pages;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class CartStorage extends BasePage {
+  public static final String CART_CONTENTS_KEY = "cart-contents";
+
+  private static final String WRITE_CART_SCRIPT = "window.localStorage.setItem(arguments[0], arguments[1]);";
+  private static final String READ_CART_SCRIPT = "return window.localStorage.getItem(arguments[0]);";
+
+  public CartStorage(WebDriver driver) {
+    super(driver);
+  }
+
+  public void seedCart(Collection<Integer> itemIds) {
+    String cartContents = itemIds.stream()
+        .distinct()
+        .map(String::valueOf)
+        .collect(Collectors.joining(",", "[", "]"));
+    logger.debug("Seeding cart with item ids: {}", cartContents);
+    ((JavascriptExecutor) driver).executeScript(WRITE_CART_SCRIPT, CART_CONTENTS_KEY, cartContents);
+  }
+
+  public List<Integer> getCartItemIds() {
+    Object cartContents = ((JavascriptExecutor) driver).executeScript(READ_CART_SCRIPT, CART_CONTENTS_KEY);
+    List<Integer> itemIds = new ArrayList<>();
+    if (cartContents == null) {
+      return itemIds;
+    }
+    String value = cartContents.toString().replace("[", "").replace("]", "").trim();
+    if (value.isEmpty()) {
+      return itemIds;
+    }
+    for (String id : value.split(",")) {
+      itemIds.add(Integer.parseInt(id.trim()));
+    }
+    return itemIds;
+  }
+
+  public CartPage seedCartAndOpenCart(Collection<Integer> itemIds, String cartPageUrl) {
+    seedCart(itemIds);
+    driver.get(cartPageUrl);
+    return new CartPage(driver);
+  }
+
+  public CheckoutPage seedCartAndOpenCheckout(Collection<Integer> itemIds, String checkoutPageUrl) {
+    seedCart(itemIds);
+    driver.get(checkoutPageUrl);
+    return new CheckoutPage(driver);
+  }
+}
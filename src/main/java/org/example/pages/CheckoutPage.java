@@ -2,13 +2,18 @@ package org.example.pages;
 
 import org.example.constants.BusinessSetting;
 import org.example.models.Item;
+import org.example.models.Money;
+import org.example.models.OrderSummary;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
@@ -36,6 +41,25 @@ public class CheckoutPage extends BasePage {
   private final By finishButton = By.id("finish");
   private final By cancelButton = By.id("cancel");
 
+  private static final String ORDER_SUMMARY_SCRIPT = """
+      var text = function (root, selector) { var e = root.querySelector(selector); return e ? e.innerText.trim() : null; };
+      var summary = function (selector, position) {
+        return text(document, selector) || text(document, '.summary_info > div:nth-child(' + position + ')');
+      };
+      return {
+        items: Array.from(document.querySelectorAll('.cart_item')).map(function (item) {
+          return {
+            name: text(item, '.inventory_item_name'),
+            description: text(item, '.inventory_item_desc'),
+            price: text(item, '.inventory_item_price')
+          };
+        }),
+        itemTotal: summary('.summary_subtotal_label', 6),
+        tax: summary('.summary_tax_label', 7),
+        total: summary('.summary_total_label', 8)
+      };
+      """;
+
   public CheckoutPage(WebDriver driver) {
     super(driver);
   }
@@ -43,9 +67,9 @@ public class CheckoutPage extends BasePage {
 
   public WebElement getFirstNameField() {
     logger.debug("Fetching 'First Name' field.");
-    WebElement firstNameFieldElement = findElementIfExist(firstNameField);
+    WebElement firstNameFieldElement = awaitElement(firstNameField);
     if (firstNameFieldElement == null) {
-      logger.error("'First Name' field not found on page: {}", driver.getCurrentUrl());
+      logger.error("'First Name' field not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return firstNameFieldElement;
@@ -63,27 +87,27 @@ public class CheckoutPage extends BasePage {
 
   public String getPlaceholderFieldFirstName() {
     logger.debug("Fetching placeholder for 'First Name' field.");
-    WebElement placeholderField = findElementIfExist(firstNameField);
+    WebElement placeholderField = awaitElement(firstNameField);
     return placeholderField.getAttribute("placeholder");
   }
 
   public String getPlaceholderFieldLastName() {
     logger.debug("Fetching placeholder for 'Last Name' field.");
-    WebElement placeholderField = findElementIfExist(lastNameField);
+    WebElement placeholderField = awaitElement(lastNameField);
     return placeholderField.getAttribute("placeholder");
   }
 
   public String getPlaceholderFieldPostCode() {
     logger.debug("Fetching placeholder for 'Postal Code' field.");
-    WebElement placeholderField = findElementIfExist(postalCodeField);
+    WebElement placeholderField = awaitElement(postalCodeField);
     return placeholderField.getAttribute("placeholder");
   }
 
   public WebElement getLastNameField() {
     logger.debug("Fetching 'Last Name' field.");
-    WebElement lastNameFieldElement = findElementIfExist(lastNameField);
+    WebElement lastNameFieldElement = awaitElement(lastNameField);
     if (lastNameFieldElement == null) {
-      logger.error("'Last Name' field not found on page: {}", driver.getCurrentUrl());
+      logger.error("'Last Name' field not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return lastNameFieldElement;
@@ -101,9 +125,9 @@ public class CheckoutPage extends BasePage {
 
   public WebElement getPostalCodeField() {
     logger.debug("Fetching 'Postal Code' field.");
-    WebElement postalCodeFieldField = findElementIfExist(postalCodeField);
+    WebElement postalCodeFieldField = awaitElement(postalCodeField);
     if (postalCodeFieldField == null) {
-      logger.error("'Postal Code' field not found on page: {}", driver.getCurrentUrl());
+      logger.error("'Postal Code' field not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return postalCodeFieldField;
@@ -121,9 +145,9 @@ public class CheckoutPage extends BasePage {
 
   public WebElement getCancelButtonElement() {
     logger.debug("Fetching 'Cancel' button.");
-    WebElement cancelButtonElement = findElementIfExist(cancelButton);
+    WebElement cancelButtonElement = awaitElement(cancelButton);
     if (cancelButtonElement == null) {
-      logger.error("'Cancel' button not found on page: {}", driver.getCurrentUrl());
+      logger.error("'Cancel' button not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return cancelButtonElement;
@@ -141,9 +165,9 @@ public class CheckoutPage extends BasePage {
 
   public WebElement getContinueButtonElement() {
     logger.debug("Fetching 'Continue' button.");
-    WebElement continueButtonElement = findElementIfExist(continueButton);
+    WebElement continueButtonElement = awaitElement(continueButton);
     if (continueButtonElement == null) {
-      logger.error("'Continue' button not found on page: {}", driver.getCurrentUrl());
+      logger.error("'Continue' button not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return continueButtonElement;
@@ -192,78 +216,110 @@ public class CheckoutPage extends BasePage {
       logger.trace("Processing item element.");
       String name = findElementIfExist(item, itemName).getText();
       String description = findElementIfExist(item, itemDescription).getText();
-      Double price = Double.parseDouble(findElementIfExist(item, itemPrice).getText().replace("$", ""));
+      Money price = parsePrice(findElementIfExist(item, itemPrice).getText());
       return new Item(name, description, price);
     }).collect(Collectors.toList());
   }
 
   public WebElement getItemTotalElement() {
     logger.debug("Fetching 'Item Total' field.");
-    WebElement itemTotalElement = findElementIfExist(itemTotal);
+    WebElement itemTotalElement = awaitElement(itemTotal);
     if (itemTotalElement == null) {
-      logger.error("'Item Total' field not found on page: {}", driver.getCurrentUrl());
+      logger.error("'Item Total' field not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return itemTotalElement;
   }
 
-  public double getItemTotalOrder() {
+  public Money getItemTotalOrder() {
     logger.debug("Calculating total item order.");
-    return extractDigits(getItemTotalElement().getText());
+    return parsePrice(getItemTotalElement().getText());
   }
 
   public WebElement getTaxElement() {
     logger.debug("Fetching 'Tax' field.");
-    WebElement taxElement = findElementIfExist(itemTax);
+    WebElement taxElement = awaitElement(itemTax);
     if (taxElement == null) {
-      logger.error("'Tax' field not found on page: {}", driver.getCurrentUrl());
+      logger.error("'Tax' field not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return taxElement;
   }
 
-  public double getTaxOrder() {
+  public Money getTaxOrder() {
     logger.debug("Calculating tax order.");
-    return extractDigits(getTaxElement().getText());
+    return parsePrice(getTaxElement().getText());
   }
 
   public WebElement getTotalElement() {
     logger.debug("Fetching 'Total' field.");
-    WebElement totalElement = findElementIfExist(total);
+    WebElement totalElement = awaitElement(total);
     if (totalElement == null) {
-      logger.error("'Total' field not found on page: {}", driver.getCurrentUrl());
+      logger.error("'Total' field not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return totalElement;
   }
 
-  public double getTotalOrder() {
+  public Money getTotalOrder() {
     logger.debug("Calculating total order.");
-    return extractDigits(getTotalElement().getText());
+    return parsePrice(getTotalElement().getText());
   }
 
-  public Double calculateSumItemOrder() {
+  public Money calculateSumItemOrder() {
     logger.debug("Calculating sum of items in order.");
     List<Item> listItemOrder = getListItemInOrder();
-    double sumItem = listItemOrder.stream().mapToDouble(Item::getPrice).sum();
-    return formatToTwoDecimalPlaces(sumItem);
+    return listItemOrder.stream().map(Item::getPrice).reduce(Money.ZERO, Money::plus);
   }
 
-  public Double calculateTaxOrder() {
+  public Money calculateTaxOrder() {
     logger.debug("Calculating tax for the order.");
-    return formatToTwoDecimalPlaces(calculateSumItemOrder() * Double.parseDouble(BusinessSetting.TAX));
+    return calculateSumItemOrder().applyRate(BusinessSetting.TAX_BASIS_POINTS);
   }
 
-  public Double calculateTotal() {
+  public Money calculateTotal() {
     logger.debug("Calculating total for the order.");
-    return formatToTwoDecimalPlaces(calculateSumItemOrder() + calculateTaxOrder());
+    Money sumItemOrder = calculateSumItemOrder();
+    return sumItemOrder.plus(sumItemOrder.applyRate(BusinessSetting.TAX_BASIS_POINTS));
+  }
+
+  public OrderSummary getOrderSummary() {
+    logger.debug("Reading order summary.");
+    if (!(driver instanceof JavascriptExecutor)) {
+      return new OrderSummary(getListItemInOrder(), getItemTotalOrder(), getTaxOrder(), getTotalOrder());
+    }
+    Object result = ((JavascriptExecutor) driver).executeScript(ORDER_SUMMARY_SCRIPT);
+    if (!(result instanceof Map<?, ?> summary)) {
+      logger.error("Order summary could not be read on page: {}", () -> currentUrlForLog());
+      throw new IllegalStateException("Order summary could not be read.");
+    }
+    List<Item> items = new ArrayList<>();
+    for (Object row : (List<?>) summary.get("items")) {
+      Map<?, ?> item = (Map<?, ?>) row;
+      items.add(new Item((String) item.get("name"), (String) item.get("description"), parsePrice((String) item.get("price"))));
+    }
+    OrderSummary orderSummary = new OrderSummary(items,
+        parseSummaryValue(summary, "itemTotal", "Item Total"),
+        parseSummaryValue(summary, "tax", "Tax"),
+        parseSummaryValue(summary, "total", "Total"));
+    logger.debug("Order summary: {}", orderSummary);
+    return orderSummary;
+  }
+
+  private Money parseSummaryValue(Map<?, ?> summary, String key, String fieldName) {
+    Object value = summary.get(key);
+    if (value == null) {
+      logger.error("'{}' field not found on page: {}", () -> fieldName, () -> currentUrlForLog());
+      throw new IllegalStateException("'" + fieldName + "' field not found.");
+    }
+    return parsePrice((String) value);
   }
 
   public WebElement getFinishButtonElement() {
     logger.debug("Fetching 'Finish' button.");
-    WebElement finishButtonElement = findElementIfExist(finishButton);
+    WebElement finishButtonElement = awaitElement(finishButton);
     if (finishButtonElement == null) {
-      logger.error("'Finish' button not found on page: {}", driver.getCurrentUrl());
+      logger.error("'Finish' button not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return finishButtonElement;
@@ -276,9 +332,9 @@ public class CheckoutPage extends BasePage {
 
   public WebElement getCompleteHeaderElement() {
     logger.debug("Fetching 'Complete Header'.");
-    WebElement completeHeaderElement = findElementIfExist(completeHeader);
+    WebElement completeHeaderElement = awaitElement(completeHeader);
     if (completeHeaderElement == null) {
-      logger.error("'Complete Header' not found on page: {}", driver.getCurrentUrl());
+      logger.error("'Complete Header' not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return completeHeaderElement;
@@ -291,9 +347,9 @@ public class CheckoutPage extends BasePage {
 
   public WebElement getCompleteTextElement() {
     logger.debug("Fetching 'Complete Text'.");
-    WebElement completeTextElement = findElementIfExist(completeText);
+    WebElement completeTextElement = awaitElement(completeText);
     if (completeTextElement == null) {
-      logger.error("'Complete Text' not found on page: {}", driver.getCurrentUrl());
+      logger.error("'Complete Text' not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return completeTextElement;
@@ -306,9 +362,9 @@ public class CheckoutPage extends BasePage {
 
   public WebElement getBackToProductButtonElement() {
     logger.debug("Fetching 'Back to Product' button.");
-    WebElement backToProductButtonElement = findElementIfExist(backToProductButton);
+    WebElement backToProductButtonElement = awaitElement(backToProductButton);
     if (backToProductButtonElement == null) {
-      logger.error("'Back to Product' button not found on page: {}", driver.getCurrentUrl());
+      logger.error("'Back to Product' button not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return backToProductButtonElement;
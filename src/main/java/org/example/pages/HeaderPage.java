@@ -18,7 +18,7 @@ public class HeaderPage extends BasePage {
   }
 
   public String getTitlePage() {
-    WebElement titleCartPage = findElementIfExist(titlePageElement);
+    WebElement titleCartPage = awaitElement(titlePageElement);
     if (titleCartPage == null) {
       logger.error("Title element is not found.");
       throw new IllegalStateException();
@@ -27,7 +27,7 @@ public class HeaderPage extends BasePage {
   }
 
   public WebElement getShoppingCartButton() {
-    WebElement shoppingCart = findElementIfExist(shoppingCartElement);
+    WebElement shoppingCart = awaitElement(shoppingCartElement);
     if (shoppingCart == null) {
       logger.error("Shopping cart element is not found.");
       throw new IllegalStateException();
@@ -37,14 +37,18 @@ public class HeaderPage extends BasePage {
 
   public String getCartQuantity(boolean isMandatory) {
     List<WebElement> cartQuantity = driver.findElements(cartQuantityElement);
-    if (isMandatory && cartQuantity.isEmpty()) {
-      logger.error("Cart quantity element is not found.");
-      throw new IllegalStateException("Cart quantity element is missing but required.");
+    if (!cartQuantity.isEmpty()) {
+      return cartQuantity.get(0).getText();
     }
-    if (cartQuantity.isEmpty()) {
+    if (!isMandatory) {
       return null;
     }
-    return cartQuantity.get(0).getText();
+    WebElement badge = waitForElement(cartQuantityElement, DEFAULT_WAIT_BUDGET);
+    if (badge == null) {
+      logger.error("Cart quantity element is not found.");
+      throw new IllegalStateException("Cart quantity element is missing but required.");
+    }
+    return badge.getText();
   }
 
   public void openCart() {
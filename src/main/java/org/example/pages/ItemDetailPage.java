@@ -1,6 +1,7 @@
 package org.example.pages;
 
 import org.example.models.Item;
+import org.example.models.Money;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -23,9 +24,9 @@ public class ItemDetailPage extends BasePage {
 
   public WebElement getItemNameElement() {
     logger.debug("Fetching 'Name Item' field.");
-    WebElement ItemNamedElement = findElementIfExist(itemName);
+    WebElement ItemNamedElement = awaitElement(itemName);
     if (ItemNamedElement == null) {
-      logger.error("'Item Name' field not found on page: {}", driver.getCurrentUrl());
+      logger.error("'Item Name' field not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return ItemNamedElement;
@@ -33,9 +34,9 @@ public class ItemDetailPage extends BasePage {
 
   public WebElement getItemDescriptionElement() {
     logger.debug("Fetching 'Description Item' field.");
-    WebElement descriptionElement = findElementIfExist(itemDescription);
+    WebElement descriptionElement = awaitElement(itemDescription);
     if (descriptionElement == null) {
-      logger.error("'Item Description' field not found on page: {}", driver.getCurrentUrl());
+      logger.error("'Item Description' field not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException("'Item Description' field not found");
     }
     return descriptionElement;
@@ -43,9 +44,9 @@ public class ItemDetailPage extends BasePage {
 
   public WebElement getItemPriceElement() {
     logger.debug("Fetching 'Price Item' field.");
-    WebElement priceElement = findElementIfExist(itemPrice);
+    WebElement priceElement = awaitElement(itemPrice);
     if (priceElement == null) {
-      logger.error("'Item Price' field not found on page: {}", driver.getCurrentUrl());
+      logger.error("'Item Price' field not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException("'Item Price' field not found");
     }
     return priceElement;
@@ -53,9 +54,9 @@ public class ItemDetailPage extends BasePage {
 
   public WebElement getItemImageElement() {
     logger.debug("Fetching 'Image Item' field.");
-    WebElement imageElement = findElementIfExist(itemImage);
+    WebElement imageElement = awaitElement(itemImage);
     if (imageElement == null) {
-      logger.error("'Item Image' field not found on page: {}", driver.getCurrentUrl());
+      logger.error("'Item Image' field not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException("'Item Image' field not found");
     }
     return imageElement;
@@ -63,9 +64,9 @@ public class ItemDetailPage extends BasePage {
 
   public WebElement getAddOrRemoveButtonElement() {
     logger.debug("Fetching 'Add or Remove Button' field.");
-    WebElement buttonElement = findElementIfExist(addOrRemoveButton);
+    WebElement buttonElement = awaitElement(addOrRemoveButton);
     if (buttonElement == null) {
-      logger.error("'Add or Remove Button' field not found on page: {}", driver.getCurrentUrl());
+      logger.error("'Add or Remove Button' field not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException("'Add or Remove Button' field not found");
     }
     return buttonElement;
@@ -73,9 +74,9 @@ public class ItemDetailPage extends BasePage {
 
   public WebElement getBackToProductsButtonElement() {
     logger.debug("Fetching 'Back to Products Button' field.");
-    WebElement backButtonElement = findElementIfExist(backToProductsButton);
+    WebElement backButtonElement = awaitElement(backToProductsButton);
     if (backButtonElement == null) {
-      logger.error("'Back to Products Button' field not found on page: {}", driver.getCurrentUrl());
+      logger.error("'Back to Products Button' field not found on page: {}", () -> currentUrlForLog());
       throw new IllegalStateException("'Back to Products Button' field not found");
     }
     return backButtonElement;
@@ -90,8 +91,8 @@ public class ItemDetailPage extends BasePage {
     return getItemDescriptionElement().getText();
   }
 
-  public double getItemPrice() {
-    return Double.parseDouble(getItemPriceElement().getText().replace("$", ""));
+  public Money getItemPrice() {
+    return parsePrice(getItemPriceElement().getText());
   }
 
   public String getItemImageSrc() {
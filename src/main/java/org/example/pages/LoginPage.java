@@ -1,13 +1,19 @@
 package org.example.pages;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chromium.HasCdp;
 
-import java.util.List;
+import java.net.URI;
+import java.util.Map;
 
 
 public class LoginPage extends BasePage {
+  public static final String SESSION_COOKIE_NAME = "session-username";
+
   private final By usernameField = By.id("user-name");
   private final By passwordField = By.id("password");
   private final By loginButton = By.name("login-button");
@@ -20,15 +26,10 @@ public class LoginPage extends BasePage {
     super(driver);
   }
 
-  protected WebElement findElementIfExist(By locator) {
-    List<WebElement> element = driver.findElements(locator);
-    return element.isEmpty() ? null : element.get(0);
-  }
-
   public WebElement getFieldEnterUserName() {
-    WebElement getFieldEnterUserName = findElementIfExist(usernameField);
+    WebElement getFieldEnterUserName = awaitElement(usernameField);
     if (getFieldEnterUserName == null) {
-      logger.error("Field \"Enter user name\" is not found. {}", driver.getCurrentUrl());
+      logger.error("Field \"Enter user name\" is not found. {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return getFieldEnterUserName;
@@ -39,9 +40,9 @@ public class LoginPage extends BasePage {
   }
 
   public WebElement getFieldEnterPassword() {
-    WebElement getFieldEnterPassword = findElementIfExist(passwordField);
+    WebElement getFieldEnterPassword = awaitElement(passwordField);
     if (getFieldEnterPassword == null) {
-      logger.error("Field \"Enter password\" is not found. {}", driver.getCurrentUrl());
+      logger.error("Field \"Enter password\" is not found. {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return getFieldEnterPassword;
@@ -52,9 +53,9 @@ public class LoginPage extends BasePage {
   }
 
   public WebElement loginButtonElement() {
-    WebElement loginButtonElement = findElementIfExist(loginButton);
+    WebElement loginButtonElement = awaitElement(loginButton);
     if (loginButtonElement == null) {
-      logger.error("Login button is not found. {}", driver.getCurrentUrl());
+      logger.error("Login button is not found. {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return loginButtonElement;
@@ -65,18 +66,18 @@ public class LoginPage extends BasePage {
   }
 
   public WebElement buttonErrorMessageElement() {
-    WebElement buttonErrorMessageElement = findElementIfExist(closeErrorMessage);
+    WebElement buttonErrorMessageElement = awaitElement(closeErrorMessage);
     if (buttonErrorMessageElement == null) {
-      logger.error("Error message button is not found. {}", driver.getCurrentUrl());
+      logger.error("Error message button is not found. {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return buttonErrorMessageElement;
   }
 
   public WebElement errorMessageElement(boolean isMandatory) {
-    WebElement errorMessageElement = findElementIfExist(errorMessage);
+    WebElement errorMessageElement = isMandatory ? awaitElement(errorMessage) : findElementIfExist(errorMessage);
     if (isMandatory && errorMessageElement == null) {
-      logger.error("Error message is not found. {}", driver.getCurrentUrl());
+      logger.error("Error message is not found. {}", () -> currentUrlForLog());
       throw new IllegalStateException();
     }
     return errorMessageElement;
@@ -91,7 +92,7 @@ public class LoginPage extends BasePage {
   }
 
   public boolean ErrorMessageIsDisabled() {
-    logger.debug("Error message element states {}",errorMessageElement(false) );
+    logger.debug("Error message element states {}", () -> remoteCallForLog(() -> errorMessageElement(false)));
     return errorMessageElement(false) == null;
   }
 
@@ -102,5 +103,38 @@ public class LoginPage extends BasePage {
     return new ProductPage(driver);
   }
 
+  public boolean loginWithSessionCookie(String baseUrl, String productsPageUrl, String userName) {
+    try {
+      injectSessionCookie(baseUrl, userName);
+      driver.get(productsPageUrl);
+    } catch (WebDriverException e) {
+      logger.warn("Failed to inject session cookie for user {}: {}", userName, e.getMessage());
+      return false;
+    }
+    String currentUrl = driver.getCurrentUrl();
+    if (!productsPageUrl.equals(currentUrl)) {
+      logger.warn("Session cookie was not accepted. Expected page: {}, actual: {}", productsPageUrl, currentUrl);
+      return false;
+    }
+    logger.debug("Logged in as {} with session cookie.", userName);
+    return true;
+  }
+
+  private void injectSessionCookie(String baseUrl, String userName) {
+    if (driver instanceof HasCdp cdpDriver) {
+      cdpDriver.executeCdpCommand("Network.setCookie", Map.of(
+          "name", SESSION_COOKIE_NAME,
+          "value", userName,
+          "url", baseUrl,
+          "path", "/"));
+      return;
+    }
+    if (!driver.getCurrentUrl().startsWith(baseUrl)) {
+      driver.get(baseUrl);
+    }
+    String domain = URI.create(baseUrl).getHost();
+    driver.manage().addCookie(new Cookie.Builder(SESSION_COOKIE_NAME, userName).domain(domain).path("/").build());
+  }
+
 }
 
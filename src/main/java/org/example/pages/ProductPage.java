@@ -1,16 +1,27 @@
 package org.example.pages;
 
+import org.example.constants.PageContent;
 import org.example.models.Item;
+import org.example.models.Money;
 import org.example.models.ProductCard;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 
 public class ProductPage extends BasePage {
@@ -23,11 +34,145 @@ public class ProductPage extends BasePage {
   private final By itemImageElement = By.tagName("img");
   private final By itemDescriptionElement = By.className("inventory_item_desc");
 
+  // Returns the inventory snapshot together with a DOM version kept by a MutationObserver on the inventory list.
+  // Cards are only extracted when the page token or the version differ from the ones passed in.
+  private static final String SNAPSHOT_PRODUCT_CARDS_SCRIPT = """
+      var extract = function (root) {
+        return Array.from(root.querySelectorAll('.inventory_item')).map(function (card) {
+          var text = function (selector) { var e = card.querySelector(selector); return e ? e.innerText.trim() : null; };
+          var image = card.querySelector('img');
+          return {
+            name: text('.inventory_item_name'),
+            description: text('.inventory_item_desc'),
+            price: text('.inventory_item_price'),
+            imageSrc: image ? image.src : null,
+            buttonText: text('button')
+          };
+        });
+      };
+      var container = document.querySelector('.inventory_list');
+      if (!container) { return {token: null, version: -1, cards: extract(document)}; }
+      var state = window.__inventoryState;
+      if (!state || state.container !== container) {
+        state = {container: container, token: Date.now() + ':' + Math.random(), version: 0};
+        new MutationObserver(function () { state.version++; })
+            .observe(container, {childList: true, subtree: true, characterData: true, attributes: true});
+        window.__inventoryState = state;
+      }
+      if (state.token === arguments[0] && state.version === arguments[1]) {
+        return {token: state.token, version: state.version, cards: null};
+      }
+      return {token: state.token, version: state.version, cards: extract(container)};
+      """;
+
+  private static final String FIND_CARD_CHILD_SCRIPT = """
+      var card = document.querySelectorAll('.inventory_item')[arguments[0]];
+      return card ? card.querySelector(arguments[1]) : null;
+      """;
+
+  // Clicks, in one pass, the cart buttons of the target cards that show clickText. After the page has re-rendered
+  // it returns the new button texts of those cards, the names of all cards in the cart and the inventory version,
+  // so the cached snapshot can be patched instead of rebuilt.
+  // Arguments: targets (indices or names), 'index' or 'name', text of the buttons to click, remove button text,
+  // cached token and version.
+  private static final String TOGGLE_CART_ITEMS_SCRIPT = """
+      var targets = arguments[0], byName = arguments[1] === 'name', clickText = arguments[2];
+      var removeText = arguments[3], cachedToken = arguments[4], cachedVersion = arguments[5];
+      var done = arguments[arguments.length - 1];
+      var cards = Array.prototype.slice.call(document.querySelectorAll('.inventory_item'));
+      var nameOf = function (card) {
+        var element = card.querySelector('.inventory_item_name');
+        return element ? element.innerText.trim() : null;
+      };
+      var buttonTextOf = function (card) {
+        var button = card && card.querySelector('button');
+        return button ? button.innerText.trim() : null;
+      };
+      var indices = [], missing = [];
+      targets.forEach(function (target) {
+        var index = byName ? cards.findIndex(function (card) { return nameOf(card) === target; }) : target;
+        if (index >= 0 && index < cards.length) { indices.push(index); } else { missing.push(target); }
+      });
+      if (missing.length) { done({missing: missing}); return; }
+      var state = window.__inventoryState;
+      var cacheValid = !!state && state.token === cachedToken && state.version === cachedVersion;
+      var clicked = 0;
+      indices.forEach(function (index) {
+        if (buttonTextOf(cards[index]) === clickText) {
+          cards[index].querySelector('button').click();
+          clicked++;
+        }
+      });
+      setTimeout(function () {
+        var current = Array.prototype.slice.call(document.querySelectorAll('.inventory_item'));
+        var after = window.__inventoryState;
+        done({
+          cacheValid: cacheValid && after === state,
+          version: after ? after.version : -1,
+          clicked: clicked,
+          buttons: indices.map(function (index) { return {index: index, text: buttonTextOf(current[index])}; }),
+          cart: current.filter(function (card) { return buttonTextOf(card) === removeText; }).map(nameOf)
+        });
+      }, 0);
+      """;
+
+  // Reads only the requested columns of every card. Arguments: list of [css selector, attribute or null].
+  private static final String PROJECT_COLUMNS_SCRIPT = """
+      var columns = arguments[0];
+      var cards = Array.prototype.slice.call(document.querySelectorAll('.inventory_item'));
+      return columns.map(function (column) {
+        return cards.map(function (card) {
+          var element = card.querySelector(column[0]);
+          if (!element) return null;
+          return column[1] ? element.getAttribute(column[1]) : element.innerText.trim();
+        });
+      });
+      """;
+
+  // Checks in the browser that a column is sorted and returns the verdict with the first out-of-order pair.
+  // Arguments: css selector, whether to compare as prices, whether the order is descending.
+  private static final String CHECK_SORTED_SCRIPT = """
+      var selector = arguments[0], numeric = arguments[1], descending = arguments[2];
+      var values = Array.prototype.map.call(document.querySelectorAll('.inventory_item'), function (card) {
+        var element = card.querySelector(selector);
+        return element ? element.innerText.trim() : '';
+      });
+      var key = function (value) {
+        return numeric ? Math.round(parseFloat(value.replace(/[^0-9.]/g, '')) * 100) : value;
+      };
+      for (var i = 1; i < values.length; i++) {
+        var previous = key(values[i - 1]), current = key(values[i]);
+        if (descending ? previous < current : previous > current) {
+          return {sorted: false, count: values.length, index: i - 1, previous: values[i - 1], next: values[i]};
+        }
+      }
+      return {sorted: true, count: values.length, index: -1};
+      """;
+
+  private List<ProductCard> cachedProductCards;
+  private String cachedToken;
+  private long cachedVersion = -1;
+  private long cacheHits;
+  private long cacheRebuilds;
 
   public ProductPage(WebDriver driver) {
     super(driver);
   }
 
+  public long getCacheHits() {
+    return cacheHits;
+  }
+
+  public long getCacheRebuilds() {
+    return cacheRebuilds;
+  }
+
+  public void invalidateCache() {
+    cachedProductCards = null;
+    cachedToken = null;
+    cachedVersion = -1;
+  }
+
   public List<WebElement> getProductCardElements() {
     logger.debug("Fetching list of product items from the page.");
     return driver.findElements(productItemElements);
@@ -41,6 +186,10 @@ public class ProductPage extends BasePage {
   public List<ProductCard> getListProductCard() {
     logger.debug("Building a list of product cards from the page.");
 
+    if (driver instanceof JavascriptExecutor) {
+      return extractProductCards();
+    }
+
     List<WebElement> listProductCard = getProductCardElements();
 
     return listProductCard.stream()
@@ -51,12 +200,10 @@ public class ProductPage extends BasePage {
   public List<ProductCard> getListProductCardByIndexItemList(List<Integer> indexItemList) {
     logger.debug("Building a list of product cards from the page by item index list.");
 
-   List<WebElement> listProductCard = getProductCardElements();
+    List<ProductCard> listProductCard = getListProductCard();
 
     if (indexItemList == null || indexItemList.isEmpty()) {
-      return listProductCard.stream()
-          .map(this::buildProductCard)
-          .collect(Collectors.toList());
+      return listProductCard;
     }
 
     List<ProductCard> filteredList = new ArrayList<>();
@@ -64,18 +211,72 @@ public class ProductPage extends BasePage {
       if (index >= listProductCard.size()) {
         throw new IndexOutOfBoundsException("Index out of bounds for current product list.");
       }
-      filteredList.add(buildProductCard(listProductCard.get(index)));
+      filteredList.add(listProductCard.get(index));
     }
     return filteredList;
 
   }
 
+  private List<ProductCard> extractProductCards() {
+    Object result = ((JavascriptExecutor) driver).executeScript(SNAPSHOT_PRODUCT_CARDS_SCRIPT, cachedToken, cachedVersion);
+    if (!(result instanceof Map<?, ?> snapshot)) {
+      logger.warn("Unexpected result of product card extraction: {}", result);
+      invalidateCache();
+      return new ArrayList<>();
+    }
+    String token = (String) snapshot.get("token");
+    long version = ((Number) snapshot.get("version")).longValue();
+    Object cards = snapshot.get("cards");
+    if (cards == null && cachedProductCards != null) {
+      cacheHits++;
+      logger.trace("Product card cache hit. Version: {}", version);
+      return new ArrayList<>(cachedProductCards);
+    }
+    List<?> rows = cards instanceof List<?> list ? list : List.of();
+    List<ProductCard> productCards = new ArrayList<>(rows.size());
+    for (int index = 0; index < rows.size(); index++) {
+      productCards.add(buildProductCard((Map<?, ?>) rows.get(index), index));
+    }
+    cacheRebuilds++;
+    logger.trace("Product card cache rebuilt. Version: {}, items: {}", version, productCards.size());
+    if (token == null) {
+      invalidateCache();
+    } else {
+      cachedProductCards = productCards;
+      cachedToken = token;
+      cachedVersion = version;
+    }
+    return new ArrayList<>(productCards);
+  }
+
+  private ProductCard buildProductCard(Map<?, ?> row, int index) {
+    logger.trace("Processing extracted product item {} to create a ProductCard object.", index);
+    Item itemDetails = new Item(
+        (String) row.get("name"),
+        (String) row.get("description"),
+        parsePrice((String) row.get("price")),
+        (String) row.get("imageSrc"));
+    return new ProductCard(itemDetails, (String) row.get("buttonText"),
+        () -> findCardChild(index, ".inventory_item_name"),
+        () -> findCardChild(index, "img"),
+        () -> findCardChild(index, "button"));
+  }
+
+  private WebElement findCardChild(int index, String cssSelector) {
+    WebElement element = (WebElement) ((JavascriptExecutor) driver).executeScript(FIND_CARD_CHILD_SCRIPT, index, cssSelector);
+    if (element == null) {
+      logger.error("Element '{}' of product card {} not found on page: {}", () -> cssSelector, () -> index, () -> currentUrlForLog());
+      throw new IllegalStateException("Element '" + cssSelector + "' of product card " + index + " not found.");
+    }
+    return element;
+  }
+
   private ProductCard buildProductCard(WebElement productCard) {
     try {
       logger.trace("Processing product item to create a ProductCard object.");
       String name = productCard.findElement(itemNameElement).getText();
       String description = productCard.findElement(itemDescriptionElement).getText();
-      Double price = extractDigits(productCard.findElement(itemPriceElement).getText());
+      Money price = parsePrice(productCard.findElement(itemPriceElement).getText());
       String imageSrc = productCard.findElement(itemImageElement).getAttribute("src");
 
       Item itemDetails = new Item(name, description, price, imageSrc);
@@ -91,6 +292,99 @@ public class ProductPage extends BasePage {
     }
   }
 
+  /**
+   * Reads the given columns of all product cards in one call, without building {@link ProductCard} objects.
+   */
+  public Map<Column, List<String>> getColumns(Column... columns) {
+    Map<Column, List<String>> projection = new EnumMap<>(Column.class);
+    if (!(driver instanceof JavascriptExecutor executor)) {
+      for (Column column : columns) {
+        projection.put(column, getProductCardElements().stream()
+            .map(card -> column.read(card.findElement(By.cssSelector(column.cssSelector))))
+            .collect(Collectors.toList()));
+      }
+      return projection;
+    }
+    List<List<String>> query = Arrays.stream(columns)
+        .map(column -> Arrays.asList(column.cssSelector, column.attribute))
+        .collect(Collectors.toList());
+    List<?> result = (List<?>) executor.executeScript(PROJECT_COLUMNS_SCRIPT, query);
+    for (int i = 0; i < columns.length; i++) {
+      List<String> values = new ArrayList<>();
+      ((List<?>) result.get(i)).forEach(value -> values.add((String) value));
+      projection.put(columns[i], values);
+    }
+    return projection;
+  }
+
+  public List<String> getProductNames() {
+    return getColumns(Column.NAME).get(Column.NAME);
+  }
+
+  public List<Money> getProductPrices() {
+    return getColumns(Column.PRICE).get(Column.PRICE).stream().map(BasePage::parsePrice).collect(Collectors.toList());
+  }
+
+  /**
+   * Checks in the browser that the cards are sorted by the column. Names compare by character code, like
+   * {@link String#compareTo}; prices compare by value.
+   */
+  public SortVerdict checkSorted(Column column, boolean descending) {
+    if (column != Column.NAME && column != Column.PRICE) {
+      throw new IllegalArgumentException("Sorting can only be checked by name or price: " + column);
+    }
+    boolean numeric = column == Column.PRICE;
+    if (!(driver instanceof JavascriptExecutor executor)) {
+      return checkSorted(getColumns(column).get(column), numeric, descending);
+    }
+    Map<?, ?> result = (Map<?, ?>) executor.executeScript(CHECK_SORTED_SCRIPT, column.cssSelector, numeric, descending);
+    return new SortVerdict(Boolean.TRUE.equals(result.get("sorted")), ((Number) result.get("count")).intValue(),
+        ((Number) result.get("index")).intValue(), (String) result.get("previous"), (String) result.get("next"));
+  }
+
+  private static SortVerdict checkSorted(List<String> values, boolean numeric, boolean descending) {
+    for (int i = 1; i < values.size(); i++) {
+      int comparison = numeric
+          ? parsePrice(values.get(i - 1)).compareTo(parsePrice(values.get(i)))
+          : values.get(i - 1).compareTo(values.get(i));
+      if (descending ? comparison < 0 : comparison > 0) {
+        return new SortVerdict(false, values.size(), i - 1, values.get(i - 1), values.get(i));
+      }
+    }
+    return new SortVerdict(true, values.size(), -1, null, null);
+  }
+
+  public enum Column {
+    NAME(".inventory_item_name", null),
+    DESCRIPTION(".inventory_item_desc", null),
+    PRICE(".inventory_item_price", null),
+    IMAGE_SRC("img", "src"),
+    BUTTON_TEXT("button", null);
+
+    private final String cssSelector;
+    private final String attribute;
+
+    Column(String cssSelector, String attribute) {
+      this.cssSelector = cssSelector;
+      this.attribute = attribute;
+    }
+
+    private String read(WebElement element) {
+      return attribute != null ? element.getAttribute(attribute) : element.getText().trim();
+    }
+  }
+
+  public record SortVerdict(boolean sorted, int count, int firstOutOfOrderIndex, String previous, String next) {
+
+    @Override
+    public String toString() {
+      return sorted
+          ? "sorted (" + count + " items)"
+          : String.format("not sorted (%d items): '%s' at %d is followed by '%s'",
+              count, previous, firstOutOfOrderIndex, next);
+    }
+  }
+
   public int getNumberOfProducts() {
     logger.debug("Fetching the number of products available on the page.");
     return getListProductCard().size();
@@ -137,34 +431,109 @@ public class ProductPage extends BasePage {
 
   public void addItemsToCart(int countAddedItem) {
     logger.info("Adding {} items to the cart.", countAddedItem);
+    addItemsToCartAndReturnListAddedIndexItem(countAddedItem);
+  }
+
+  public List<Integer> addItemsToCartAndReturnListAddedIndexItem(int countAddedItem) {
+    logger.info("Adding {} items to the cart and returning their indices.", countAddedItem);
     List<ProductCard> productCardList = getListProductCard();
     if (!validateItemCount(countAddedItem, productCardList)) {
-      return;
+      return new ArrayList<>();
     }
+    Set<Integer> indices = getRandomDistinctIndices(countAddedItem, productCardList.size());
+    Set<String> cart = addToCart(indices);
+    logger.info("Items added to cart. Indices: {}, cart: {}", indices, cart);
+    return new ArrayList<>(indices);
+  }
 
-    for (int i = 0; i < countAddedItem; i++) {
-      int indexItem = getRandomIndexItem(productCardList);
-      productCardList.get(indexItem).clickAddOrRemoveButton();
-      logger.info("Item added to cart. Item: {}", indexItem);
+  /**
+   * Adds the cards at the given indices to the cart in one pass; cards already in the cart are left as they are.
+   * Returns the names of all items in the cart afterwards.
+   */
+  public Set<String> addToCart(Collection<Integer> indices) {
+    return toggleCartItems(new ArrayList<>(new LinkedHashSet<>(indices)), false,
+        PageContent.CommonContent.ADD_TO_CART_BUTTON_TEXT);
+  }
+
+  public Set<String> addToCartByNames(Collection<String> names) {
+    return toggleCartItems(new ArrayList<>(new LinkedHashSet<>(names)), true,
+        PageContent.CommonContent.ADD_TO_CART_BUTTON_TEXT);
+  }
+
+  /**
+   * Removes the cards at the given indices from the cart in one pass; cards not in the cart are left as they are.
+   * Returns the names of all items in the cart afterwards.
+   */
+  public Set<String> removeFromCart(Collection<Integer> indices) {
+    return toggleCartItems(new ArrayList<>(new LinkedHashSet<>(indices)), false,
+        PageContent.CommonContent.REMOVE_BUTTON_TEXT);
+  }
+
+  public Set<String> removeFromCartByNames(Collection<String> names) {
+    return toggleCartItems(new ArrayList<>(new LinkedHashSet<>(names)), true,
+        PageContent.CommonContent.REMOVE_BUTTON_TEXT);
+  }
+
+  private Set<String> toggleCartItems(List<?> targets, boolean byName, String clickText) {
+    if (!(driver instanceof JavascriptExecutor executor)) {
+      return toggleCartItemsByElements(targets, byName, clickText);
+    }
+    Object result = executor.executeAsyncScript(TOGGLE_CART_ITEMS_SCRIPT, targets, byName ? "name" : "index",
+        clickText, PageContent.CommonContent.REMOVE_BUTTON_TEXT, cachedToken, cachedVersion);
+    if (!(result instanceof Map<?, ?> outcome)) {
+      logger.error("Unexpected result of cart update: {}", result);
+      invalidateCache();
+      throw new IllegalStateException("Cart update returned no result.");
+    }
+    if (outcome.get("missing") != null) {
+      logger.error("Products {} not found on page: {}", () -> outcome.get("missing"), () -> currentUrlForLog());
+      if (!byName) {
+        throw new IndexOutOfBoundsException("Index out of bounds for current product list: " + outcome.get("missing"));
+      }
+      throw new IllegalArgumentException("Products not found: " + outcome.get("missing"));
+    }
+    List<?> buttons = (List<?>) outcome.get("buttons");
+    if (Boolean.TRUE.equals(outcome.get("cacheValid")) && cachedProductCards != null) {
+      for (Object row : buttons) {
+        Map<?, ?> button = (Map<?, ?>) row;
+        cachedProductCards.get(((Number) button.get("index")).intValue()).refreshButton((String) button.get("text"));
+      }
+      cachedVersion = ((Number) outcome.get("version")).longValue();
+    } else {
+      invalidateCache();
     }
+    logger.debug("Clicked '{}' on {} of {} product(s).", clickText, outcome.get("clicked"), targets.size());
+    Set<String> cart = new LinkedHashSet<>();
+    ((List<?>) outcome.get("cart")).forEach(name -> cart.add((String) name));
+    return cart;
   }
 
-  public List<Integer> addItemsToCartAndReturnListAddedIndexItem(int countAddedItem) {
-    logger.info("Adding {} items to the cart and returning their indices.", countAddedItem);
-    List<Integer> listIndexAddedItems = new ArrayList<>();
+  private Set<String> toggleCartItemsByElements(List<?> targets, boolean byName, String clickText) {
     List<ProductCard> productCardList = getListProductCard();
-    if (!validateItemCount(countAddedItem, productCardList)) {
-      return listIndexAddedItems;
+    for (Object target : targets) {
+      ProductCard productCard = byName
+          ? productCardList.stream()
+              .filter(card -> card.getItemDetails().getName().equals(target))
+              .findFirst()
+              .orElseThrow(() -> new IllegalArgumentException("Product not found: " + target))
+          : productCardList.get((Integer) target);
+      if (productCard.getActualNameButton().equals(clickText)) {
+        productCard.clickAddOrRemoveButton();
+      }
     }
-
-    for (int i = 0; i < countAddedItem; i++) {
-      int indexItem = getRandomIndexItem(productCardList);
-      listIndexAddedItems.add(indexItem);
-      productCardList.get(indexItem).clickAddOrRemoveButton();
-      logger.info("Item added to cart. Index: {}", indexItem);
-      productCardList = getListProductCard();
+    Set<String> cart = new LinkedHashSet<>();
+    for (ProductCard productCard : getListProductCard()) {
+      if (productCard.getActualNameButton().equals(PageContent.CommonContent.REMOVE_BUTTON_TEXT)) {
+        cart.add(productCard.getItemDetails().getName());
+      }
     }
-    return listIndexAddedItems;
+    return cart;
+  }
+
+  private static Set<Integer> getRandomDistinctIndices(int count, int size) {
+    List<Integer> indices = IntStream.range(0, size).boxed().collect(Collectors.toList());
+    Collections.shuffle(indices, ThreadLocalRandom.current());
+    return new LinkedHashSet<>(indices.subList(0, count));
   }
 
   private boolean validateItemCount(int countAddedItem, List<ProductCard> productCardList) {
@@ -191,17 +560,16 @@ public class ProductPage extends BasePage {
 
   public void removeItemsFromCart(List<Integer> listIndexItems) {
     logger.info("Removing items from the cart. Indices: {}", listIndexItems);
-    for (Integer listIndexItem : listIndexItems) {
-      List<ProductCard> productCardList = getListProductCard();
-      productCardList.get(listIndexItem).clickAddOrRemoveButton();
-      logger.info("Item removed from cart. Index: {}", listIndexItem);
-    }
+    Set<String> cart = removeFromCart(listIndexItems);
+    logger.info("Items removed from cart. Cart: {}", cart);
   }
 
   public String getActualNameButton(int indexItem) {
     logger.debug("Fetching the button name for item at index: {}", indexItem);
     List<ProductCard> productCardList = getListProductCard();
-    return productCardList.get(indexItem).getActualNameButton();
+    ProductCard productCard = productCardList.get(indexItem);
+    String buttonText = productCard.getButtonText();
+    return buttonText != null ? buttonText : productCard.getActualNameButton();
   }
 
   public void clickRandomItemNameLinkAndValidateNavigation() {
@@ -0,0 +1,17 @@
+package org.example.utils;
+
+public class LoggingCallCounter {
+  private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+  public static void increment() {
+    COUNT.get()[0]++;
+  }
+
+  public static long get() {
+    return COUNT.get()[0];
+  }
+
+  public static void reset() {
+    COUNT.get()[0] = 0;
+  }
+}
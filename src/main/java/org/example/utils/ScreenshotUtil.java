@@ -1,29 +1,63 @@
 package org.example.utils;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 
-import java.io.File;
-import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 public class ScreenshotUtil {
+  private static final Logger logger = LogManager.getLogger(ScreenshotUtil.class);
+  private static final int MAX_PARAMS_LENGTH = 60;
+  private static final Map<String, AtomicInteger> ATTEMPTS = new ConcurrentHashMap<>();
+
   private final WebDriver driver;
 
   public ScreenshotUtil(WebDriver driver) {
     this.driver = driver;
   }
 
-  public void takeScreenshot(String fileName) {
-    File screenshotFile = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-    File destinationFile = new File("screenshots/" + fileName + ".png");
+  /**
+   * Captures the screenshot in memory and hands it to {@link ScreenshotWriter}; the file is written in the background.
+   */
+  public Path takeScreenshot(String fileName) {
+    long start = System.nanoTime();
+    byte[] png;
     try {
-      Files.createDirectories(destinationFile.getParentFile().toPath());
-      Files.copy(screenshotFile.toPath(), destinationFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-      System.out.println("Скриншот сохранен: " + destinationFile.getAbsolutePath());
-    } catch (Exception e) {
-      e.printStackTrace();
+      png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+    } catch (WebDriverException e) {
+      logger.error("Failed to capture screenshot {}: {}", fileName, e.getMessage());
+      return null;
+    }
+    ScreenshotWriter writer = ScreenshotWriter.getInstance();
+    Path target = writer.submit(fileName, png);
+    logger.debug("Screenshot {} captured in {} ms, writer queue depth {}",
+        fileName, (System.nanoTime() - start) / 1_000_000, writer.getStats().queueDepth());
+    return target;
+  }
+
+  /**
+   * Builds a file name unique within the run: {@code Class.method[params]_attemptN}.
+   */
+  public static String screenshotName(String className, String methodName, Object[] parameters) {
+    String baseName = className + "." + methodName;
+    if (parameters != null && parameters.length > 0) {
+      String params = Arrays.stream(parameters).map(String::valueOf).collect(Collectors.joining(","));
+      if (params.length() > MAX_PARAMS_LENGTH) {
+        params = params.substring(0, MAX_PARAMS_LENGTH) + "~" + Integer.toHexString(params.hashCode());
+      }
+      baseName += "[" + params + "]";
     }
+    baseName = baseName.replaceAll("[^A-Za-z0-9._,\\[\\]~-]", "_");
+    int attempt = ATTEMPTS.computeIfAbsent(baseName, key -> new AtomicInteger()).incrementAndGet();
+    return baseName + "_attempt" + attempt;
   }
 }
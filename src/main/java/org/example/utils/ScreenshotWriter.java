@@ -0,0 +1,225 @@
+package org.example.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes screenshots on a background thread so test teardown only pays for the capture itself.
+ * The queue is bounded; when it is full the screenshot is dropped rather than blocking the caller.
+ */
+public class ScreenshotWriter {
+  private static final Logger logger = LogManager.getLogger(ScreenshotWriter.class);
+
+  private static volatile ScreenshotWriter instance;
+
+  private final Path directory;
+  private final double scale;
+  private final String format;
+  private final float jpegQuality;
+  private final ArrayBlockingQueue<Runnable> queue;
+  private final ThreadPoolExecutor executor;
+
+  private final AtomicLong submitted = new AtomicLong();
+  private final AtomicLong written = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final AtomicLong maxQueueDepth = new AtomicLong();
+  private final AtomicLong totalWriteNanos = new AtomicLong();
+  private final AtomicLong maxWriteNanos = new AtomicLong();
+
+  public ScreenshotWriter(Path directory, int capacity, double scale, String format, float jpegQuality) {
+    if (scale <= 0 || scale > 1) {
+      throw new IllegalArgumentException("Screenshot scale must be in (0, 1]: " + scale);
+    }
+    if (!format.equals("png") && !format.equals("jpg")) {
+      throw new IllegalArgumentException("Unsupported screenshot format: " + format);
+    }
+    this.directory = directory;
+    this.scale = scale;
+    this.format = format;
+    this.jpegQuality = jpegQuality;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, queue, runnable -> {
+      Thread thread = new Thread(runnable, "screenshot-writer");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  public static ScreenshotWriter getInstance() {
+    if (instance == null) {
+      synchronized (ScreenshotWriter.class) {
+        if (instance == null) {
+          instance = new ScreenshotWriter(
+              Paths.get(System.getProperty("screenshot.dir", "screenshots")),
+              Integer.getInteger("screenshot.queue.capacity", 32),
+              Double.parseDouble(System.getProperty("screenshot.scale", "1.0")),
+              System.getProperty("screenshot.format", "png"),
+              Float.parseFloat(System.getProperty("screenshot.jpegQuality", "0.8")));
+          Runtime.getRuntime().addShutdownHook(new Thread(() -> instance.shutdown(10_000), "screenshot-writer-drain"));
+        }
+      }
+    }
+    return instance;
+  }
+
+  public static boolean isInitialized() {
+    return instance != null;
+  }
+
+  /**
+   * Queues the PNG bytes for writing as {@code baseName} plus the configured extension and returns the target path.
+   * Returns {@code null} if the queue was full and the screenshot was dropped.
+   */
+  public Path submit(String baseName, byte[] pngBytes) {
+    Path target = directory.resolve(baseName + "." + format);
+    submitted.incrementAndGet();
+    try {
+      executor.execute(() -> write(target, pngBytes));
+    } catch (RejectedExecutionException e) {
+      dropped.incrementAndGet();
+      if (executor.isShutdown()) {
+        logger.warn("Screenshot writer is shut down, dropping {}", target);
+      } else {
+        logger.warn("Screenshot queue is full ({}), dropping {}", queue.size(), target);
+      }
+      return null;
+    }
+    updateMax(maxQueueDepth, queue.size());
+    return target;
+  }
+
+  /**
+   * Waits until every accepted screenshot has been written or has failed. Unlike {@link #shutdown}, the writer keeps
+   * accepting screenshots.
+   */
+  public boolean awaitIdle(long timeoutMillis) {
+    long deadline = System.currentTimeMillis() + timeoutMillis;
+    while (System.currentTimeMillis() < deadline) {
+      if (getPending() == 0) {
+        return true;
+      }
+      try {
+        Thread.sleep(20);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Stops accepting screenshots and waits for the queued ones to be written.
+   */
+  public boolean shutdown(long timeoutMillis) {
+    executor.shutdown();
+    try {
+      return executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  // Every accepted screenshot ends up written or failed. The outcomes are read before submitted, so a screenshot
+  // that finishes between the reads is still counted as pending rather than missed.
+  private long getPending() {
+    long finished = written.get() + failed.get() + dropped.get();
+    return submitted.get() - finished;
+  }
+
+  public WriterStats getStats() {
+    return new WriterStats(submitted.get(), written.get(), dropped.get(), failed.get(), queue.size(),
+        maxQueueDepth.get(), totalWriteNanos.get(), maxWriteNanos.get());
+  }
+
+  private void write(Path target, byte[] pngBytes) {
+    long start = System.nanoTime();
+    try {
+      Files.createDirectories(target.getParent());
+      if (scale == 1 && format.equals("png")) {
+        Files.write(target, pngBytes);
+      } else {
+        writeTransformed(target, pngBytes);
+      }
+      long elapsed = System.nanoTime() - start;
+      written.incrementAndGet();
+      totalWriteNanos.addAndGet(elapsed);
+      updateMax(maxWriteNanos, elapsed);
+      logger.info("Screenshot saved: {} ({} ms)", target.toAbsolutePath(), elapsed / 1_000_000);
+    } catch (IOException | RuntimeException e) {
+      failed.incrementAndGet();
+      logger.error("Failed to save screenshot {}", target, e);
+    }
+  }
+
+  private void writeTransformed(Path target, byte[] pngBytes) throws IOException {
+    BufferedImage source = ImageIO.read(new ByteArrayInputStream(pngBytes));
+    if (source == null) {
+      throw new IOException("Screenshot is not a readable image.");
+    }
+    int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+    int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = image.createGraphics();
+    graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+    graphics.drawImage(source, 0, 0, width, height, null);
+    graphics.dispose();
+
+    if (format.equals("png")) {
+      ImageIO.write(image, "png", target.toFile());
+      return;
+    }
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+    ImageWriteParam param = writer.getDefaultWriteParam();
+    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+    param.setCompressionQuality(jpegQuality);
+    Files.deleteIfExists(target);
+    try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+      writer.setOutput(output);
+      writer.write(null, new IIOImage(image, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+  }
+
+  private static void updateMax(AtomicLong max, long value) {
+    max.accumulateAndGet(value, Math::max);
+  }
+
+  public record WriterStats(long submitted, long written, long dropped, long failed, int queueDepth,
+                            long maxQueueDepth, long totalWriteNanos, long maxWriteNanos) {
+
+    public double averageWriteMillis() {
+      return written == 0 ? 0 : totalWriteNanos / 1_000_000.0 / written;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("submitted=%d, written=%d, dropped=%d, failed=%d, queueDepth=%d, maxQueueDepth=%d, "
+              + "avgWrite=%.1fms, maxWrite=%.1fms",
+          submitted, written, dropped, failed, queueDepth, maxQueueDepth, averageWriteMillis(),
+          maxWriteNanos / 1_000_000.0);
+    }
+  }
+}
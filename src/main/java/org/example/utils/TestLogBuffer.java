@@ -0,0 +1,98 @@
+package org.example.utils;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the most recent events of each thread in memory. A test runs on one thread, so the buffer of the current
+ * thread holds what the running test logged; {@code TestLoggerListener} dumps it for failed tests and clears it
+ * otherwise.
+ */
+@Plugin(name = "TestLogBuffer", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE)
+public class TestLogBuffer extends AbstractAppender {
+  private static volatile TestLogBuffer instance;
+
+  private final int capacity;
+  private final ThreadLocal<Buffer> buffers;
+
+  private TestLogBuffer(String name, Filter filter, Layout<? extends Serializable> layout, int capacity) {
+    super(name, filter, layout, true, Property.EMPTY_ARRAY);
+    this.capacity = capacity;
+    this.buffers = ThreadLocal.withInitial(Buffer::new);
+  }
+
+  @PluginFactory
+  public static TestLogBuffer createAppender(
+      @PluginAttribute("name") String name,
+      @PluginAttribute(value = "capacity", defaultInt = 2000) int capacity,
+      @PluginElement("Layout") Layout<? extends Serializable> layout,
+      @PluginElement("Filter") Filter filter) {
+    TestLogBuffer appender = new TestLogBuffer(name, filter,
+        layout != null ? layout : PatternLayout.createDefaultLayout(), Math.max(1, capacity));
+    instance = appender;
+    return appender;
+  }
+
+  @Override
+  public void append(LogEvent event) {
+    Buffer buffer = buffers.get();
+    if (buffer.events.size() == capacity) {
+      buffer.events.pollFirst();
+      buffer.dropped++;
+    }
+    buffer.events.addLast(event.toImmutable());
+  }
+
+  /**
+   * Returns the formatted events buffered on the current thread and clears the buffer.
+   */
+  public static BufferedLog drain() {
+    TestLogBuffer appender = instance;
+    if (appender == null) {
+      return new BufferedLog(List.of(), 0);
+    }
+    Buffer buffer = appender.buffers.get();
+    List<String> lines = new ArrayList<>(buffer.events.size());
+    for (LogEvent event : buffer.events) {
+      lines.add(appender.getLayout().toSerializable(event).toString().stripTrailing());
+    }
+    BufferedLog log = new BufferedLog(lines, buffer.dropped);
+    buffer.clear();
+    return log;
+  }
+
+  public static void clear() {
+    TestLogBuffer appender = instance;
+    if (appender != null) {
+      appender.buffers.get().clear();
+    }
+  }
+
+  public record BufferedLog(List<String> lines, long dropped) {
+  }
+
+  private static class Buffer {
+    private final ArrayDeque<LogEvent> events = new ArrayDeque<>();
+    private long dropped;
+
+    private void clear() {
+      events.clear();
+      dropped = 0;
+    }
+  }
+}
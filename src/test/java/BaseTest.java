@@ -1,17 +1,25 @@
-import io.github.bonigarcia.wdm.WebDriverManager;
 import listeners.TestLoggerListener;
+import org.example.constants.InventoryCatalog;
+import org.example.driver.BrowserProfile;
+import org.example.driver.DriverManager;
+import org.example.driver.Login;
+import org.example.driver.LoginStrategy;
+import org.example.driver.SessionContext;
+import org.example.driver.replay.CommandRecorder;
 import org.example.models.Item;
+import org.example.models.Money;
 import org.example.models.ProductCard;
 import org.example.pages.CartPage;
 import org.example.pages.HeaderPage;
 import org.example.pages.LoginPage;
 import org.example.pages.ProductPage;
 import org.example.utils.ScreenshotUtil;
+import org.example.utils.TestLogBuffer;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.testng.ITestResult;
+import org.testng.Reporter;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
@@ -27,41 +35,85 @@ import static org.testng.Assert.assertTrue;
 
 @Listeners(TestLoggerListener.class)
 public class BaseTest {
-  WebDriver driver;
-  LoginPage loginPage;
-  ProductPage productPage;
-  CartPage cartPage;
-
-  HeaderPage headerPage;
-  ScreenshotUtil screenshotUtil;
 
   protected final Logger logger = LogManager.getLogger(getClass());
 
-  @Parameters({"baseUrl", "loginUsername", "loginPassword"})
+  @Parameters({"baseUrl", "productsPageUrl", "loginUsername", "loginPassword"})
   @BeforeMethod
-  public void setUp(String baseUrl, String loginUsername, String loginPassword) {
-    WebDriverManager.chromedriver().setup();
-    driver = new ChromeDriver();
-    loginPage = new LoginPage(driver);
-    productPage = new ProductPage(driver);
-    headerPage = new HeaderPage(driver);
-    driver.get(baseUrl);
-    productPage = loginPage.login(loginUsername, loginPassword);
-    screenshotUtil = new ScreenshotUtil(driver);
+  public void setUp(String baseUrl, String productsPageUrl, String loginUsername, String loginPassword,
+                    ITestResult result) {
+    // Drop what the previous test's teardown logged on this thread, so it is not dumped with this test.
+    TestLogBuffer.clear();
+    SessionContext session = DriverManager.startSession(resolveBrowserProfile(result));
+    LoginStrategy loginStrategy = resolveLoginStrategy();
+    if (loginStrategy == LoginStrategy.SESSION_COOKIE
+        && session.getLoginPage().loginWithSessionCookie(baseUrl, productsPageUrl, loginUsername)) {
+      return;
+    }
+    if (loginStrategy == LoginStrategy.SESSION_COOKIE) {
+      logger.warn("Falling back to UI login.");
+    }
+    session.getDriver().get(baseUrl);
+    session.getLoginPage().login(loginUsername, loginPassword);
+  }
 
+  private LoginStrategy resolveLoginStrategy() {
+    String override = System.getProperty("login.strategy");
+    if (override != null) {
+      return LoginStrategy.valueOf(override.toUpperCase());
+    }
+    Login login = getClass().getAnnotation(Login.class);
+    return login != null ? login.value() : LoginStrategy.SESSION_COOKIE;
+  }
 
+  private BrowserProfile resolveBrowserProfile(ITestResult result) {
+    return BrowserProfile.resolve(getClass(), result.getMethod().getConstructorOrMethod().getMethod(),
+        result.getMethod().getGroups());
   }
 
-  @AfterMethod
+  @AfterMethod(alwaysRun = true)
   public void afterEachTest(ITestResult result) {
-    if (ITestResult.FAILURE == result.getStatus()) {
-      screenshotUtil.takeScreenshot(result.getName());
+    if (!DriverManager.hasSession()) {
+      return;
     }
-    if (driver != null) {
-      driver.quit();
+    try {
+      if (CommandRecorder.isEnabled()) {
+        CommandRecorder.save(result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName()
+            + (result.getParameters().length > 0 ? "_" + result.getMethod().getCurrentInvocationCount() : ""));
+      }
+      if (ITestResult.FAILURE == result.getStatus()) {
+        new ScreenshotUtil(getDriver()).takeScreenshot(ScreenshotUtil.screenshotName(
+            result.getTestClass().getRealClass().getSimpleName(), result.getMethod().getMethodName(),
+            result.getParameters()));
+      }
+      ProductPage productPage = getProductPage();
+      logger.debug("Product card cache for {}: hits={}, rebuilds={}",
+          result.getName(), productPage.getCacheHits(), productPage.getCacheRebuilds());
+    } finally {
+      DriverManager.endSession();
     }
   }
 
+  protected WebDriver getDriver() {
+    return DriverManager.getDriver();
+  }
+
+  protected LoginPage getLoginPage() {
+    return DriverManager.getSession().getLoginPage();
+  }
+
+  protected ProductPage getProductPage() {
+    return DriverManager.getSession().getProductPage();
+  }
+
+  protected HeaderPage getHeaderPage() {
+    return DriverManager.getSession().getHeaderPage();
+  }
+
+  protected CartPage getCartPage() {
+    return DriverManager.getSession().getCartPage();
+  }
+
   protected void verifyProductCardDisplayed(ProductCard productCard, String detailScope) {
     logger.info("Verifying product card with detail scope: {}", detailScope);
 
@@ -92,13 +144,13 @@ public class BaseTest {
     assertTrue(value != null && !value.isEmpty(), attributeName + " is not displayed");
   }
 
-  private void verifyPositivePrice(Double value) {
-    assertTrue(value != null && value > 0, "Item price is not displayed or invalid");
+  private void verifyPositivePrice(Money value) {
+    assertTrue(value != null && value.isPositive(), "Item price is not displayed or invalid");
   }
 
 
   protected void verifyProductCardDisplayed(String detailScope) {
-    List<ProductCard> productCardList = productPage.getListProductCard();
+    List<ProductCard> productCardList = getProductPage().getListProductCard();
     logger.info("Verifying product card list. Total items: {}, Detail scope: {}", productCardList.size(), detailScope);
     for (ProductCard item : productCardList) {
       logger.debug("Verifying product card: {}", item);
@@ -113,11 +165,13 @@ public class BaseTest {
   }
 
   public void addRandomItemAndNavigateToCartPage() {
-    productPage.addItemToCart();
-    headerPage.openCart();
-    logger.debug("Item added to cart. Navigating to cart page.");
-
+    addItemsAndNavigateToCartPage(1);
+  }
 
+  public void addItemsAndNavigateToCartPage(int countItem) {
+    List<Integer> itemIds = InventoryCatalog.getRandomItemIds(countItem);
+    DriverManager.getSession().getCartStorage().seedCartAndOpenCart(itemIds, getParameter("cartPageUrl"));
+    logger.debug("Items {} added to cart. Navigated to cart page.", itemIds);
   }
 
   public Item extractItemDetailFromProductCard(ProductCard productCard, String detailScope) {
@@ -157,22 +211,21 @@ public class BaseTest {
   public void addItemAndNavigateToCheckoutPage(int countItem) {
     logger.debug("Starting process to add items and navigate to the checkout page.");
 
-    logger.debug("Adding " + countItem + " items to the cart.");
-    productPage.addItemsToCart(countItem);
-
-    logger.debug("Opening the cart.");
-    headerPage.openCart();
-
-    logger.debug("Initializing CartPage object.");
-    cartPage = new CartPage(driver);
-
-    logger.debug("Clicking the checkout button.");
-    cartPage.clickCheckoutButton();
+    List<Integer> itemIds = InventoryCatalog.getRandomItemIds(countItem);
+    logger.debug("Seeding the cart with {} items: {}", countItem, itemIds);
+    DriverManager.getSession().getCartStorage().seedCartAndOpenCheckout(itemIds, getParameter("checkoutPageUrl"));
+  }
 
+  protected String getParameter(String name) {
+    String value = Reporter.getCurrentTestResult().getTestContext().getCurrentXmlTest().getParameter(name);
+    if (value == null) {
+      throw new IllegalStateException("Suite parameter '" + name + "' is not defined.");
+    }
+    return value;
   }
 
   public void verifyCurrentUrl(String expectedUrl) {
-    String currentUrl = driver.getCurrentUrl();
+    String currentUrl = getDriver().getCurrentUrl();
     assertEquals(currentUrl, expectedUrl, "URL after navigation is incorrect");
   }
 
@@ -1,8 +1,8 @@
 import org.example.constants.PageContent;
+import org.example.driver.Browser;
+import org.example.driver.BrowserProfile;
 import org.example.models.Item;
 import org.example.models.ProductCard;
-import org.example.pages.CartPage;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Parameters;
 import org.testng.annotations.Test;
 
@@ -11,32 +11,24 @@ import java.util.List;
 import static org.example.utils.MessageUtils.formatMessage;
 import static org.testng.Assert.*;
 
+@Browser(BrowserProfile.TEXT_ONLY)
 public class CartPageTest extends BaseTest {
-  List<ProductCard> listItemsFromProductPage;
-
-  @BeforeMethod
-  public void additionalSetUp() {
-    logger.info("Setting up CartPage and initializing product list.");
-    cartPage = new CartPage(driver);
-    listItemsFromProductPage = productPage.getListProductCard();
-    logger.debug("Initialized product list with {} items.", listItemsFromProductPage.size());
-  }
 
   @Test
   public void verifyCartPageDisplayedElement() {
     logger.info("Test: Verifying all elements on the Cart page are displayed.");
-    productPage.addItemToCart();
+    getProductPage().addItemToCart();
     logger.info("Added item to the cart. Navigating to Cart page.");
-    headerPage.openCart();
+    getHeaderPage().openCart();
 
-    String actualTitle = headerPage.getTitlePage();
-    List<ProductCard> cartItems = cartPage.getListProductCard();
+    String actualTitle = getHeaderPage().getTitlePage();
+    List<ProductCard> cartItems = getCartPage().getListProductCard();
     logger.debug("Cart page title: {}", actualTitle);
     logger.debug("Cart contains {} items: {}", cartItems.size(), cartItems);
 
     assertEquals(actualTitle, PageContent.CartPageContent.TITLE_PAGE, formatMessage("Cart page title mismatch. Expected: '%s', Actual: '%s'", PageContent.CartPageContent.TITLE_PAGE, actualTitle));
-    assertTrue(cartPage.getCheckoutButtonElement().isDisplayed(), "'Checkout' button is not displayed.");
-    assertTrue(cartPage.getContinueShoppingButtonElement().isDisplayed(), "'Continue Shopping' button is not displayed.");
+    assertTrue(getCartPage().getCheckoutButtonElement().isDisplayed(), "'Checkout' button is not displayed.");
+    assertTrue(getCartPage().getContinueShoppingButtonElement().isDisplayed(), "'Continue Shopping' button is not displayed.");
 
     logger.info("Verified all Cart page elements are displayed.");
   }
@@ -44,16 +36,18 @@ public class CartPageTest extends BaseTest {
   @Test
   public void verifyItemDetailContentCorrect() {
     logger.info("Test: Verifying item details in the Cart match the selected product.");
+    List<ProductCard> listItemsFromProductPage = getProductPage().getListProductCard();
+    logger.debug("Initialized product list with {} items.", listItemsFromProductPage.size());
     int randomIndex = getRandomItem(listItemsFromProductPage);
     ProductCard expectedProductCard = listItemsFromProductPage.get(randomIndex);
     Item expectedItem = extractItemDetailFromProductCard(expectedProductCard, "");
     logger.debug("Expected item details: {}", expectedItem);
 
-    productPage.addItemToCartByIndexItem(randomIndex);
+    getProductPage().addItemToCartByIndexItem(randomIndex);
     logger.info("Added item at index {} to the cart.", randomIndex);
 
-    headerPage.openCart();
-    ProductCard actualProductCard = cartPage.getProductCard(0);
+    getHeaderPage().openCart();
+    ProductCard actualProductCard = getCartPage().getProductCard(0);
     Item actualItem = extractItemDetailFromProductCard(actualProductCard, "");
     logger.debug("Actual item details in cart: {}", actualItem);
 
@@ -66,13 +60,14 @@ public class CartPageTest extends BaseTest {
     logger.info("Test: Removing an item from the cart and verifying the cart is empty.");
     addRandomItemAndNavigateToCartPage();
 
-    List<ProductCard> cartItemsBeforeRemoval = cartPage.getListProductCard();
+    List<ProductCard> cartItemsBeforeRemoval = getCartPage().getListProductCard();
     logger.debug("Cart items before removal: {}", cartItemsBeforeRemoval);
 
     cartItemsBeforeRemoval.get(0).clickAddOrRemoveButton();
+    getCartPage().waitForItemCountChange(cartItemsBeforeRemoval.size());
     logger.info("Removed the first item from the cart.");
 
-    List<ProductCard> cartItemsAfterRemoval = cartPage.getListProductCard();
+    List<ProductCard> cartItemsAfterRemoval = getCartPage().getListProductCard();
     logger.debug("Cart items after removal: {}", cartItemsAfterRemoval);
 
     assertTrue(cartItemsAfterRemoval.isEmpty(), "Cart is not empty after item removal.");
@@ -85,7 +80,7 @@ public class CartPageTest extends BaseTest {
     logger.info("Test: Verifying 'Continue Shopping' button navigates to the Product page.");
     addRandomItemAndNavigateToCartPage();
 
-    cartPage.clickContinueShoppingButton();
+    getCartPage().clickContinueShoppingButton();
     logger.debug("Clicked 'Continue Shopping' button.");
 
     verifyCurrentUrl(productsPageUrl);
@@ -98,7 +93,7 @@ public class CartPageTest extends BaseTest {
     logger.info("Test: Verifying 'Checkout' button navigates to the Checkout page.");
     addRandomItemAndNavigateToCartPage();
 
-    cartPage.clickCheckoutButton();
+    getCartPage().clickCheckoutButton();
     logger.debug("Clicked 'Checkout' button.");
 
     verifyCurrentUrl(checkoutPageUrl);
@@ -108,29 +103,27 @@ public class CartPageTest extends BaseTest {
   @Test
   public void verifyRemoveButtonIsClickable() {
     logger.info("Test: Verifying all 'Remove' buttons in the Cart are clickable.");
-    productPage.addItemsToCart(2);
-    headerPage.openCart();
+    addItemsAndNavigateToCartPage(2);
 
-    List<ProductCard> cartItems = cartPage.getListProductCard();
+    List<ProductCard> cartItems = getCartPage().getListProductCard();
     logger.debug("Cart items: {}", cartItems);
 
-    cartPage.verifyRemoveButtonForAllItemsClickable(cartItems);
+    getCartPage().verifyRemoveButtonForAllItemsClickable(cartItems);
     logger.info("Verified all 'Remove' buttons in the Cart are clickable.");
   }
 
   @Test
   public void verifyQuantityCanUpdate() {
     logger.info("Test: Verifying cart quantity updates after item removal.");
-    productPage.addItemsToCart(2);
-    headerPage.openCart();
+    addItemsAndNavigateToCartPage(2);
 
-    List<ProductCard> cartItems = cartPage.getListProductCard();
+    List<ProductCard> cartItems = getCartPage().getListProductCard();
     logger.debug("Cart items before quantity update: {}", cartItems);
 
     cartItems.get(0).clickAddOrRemoveButton();
     logger.info("Removed the first item from the cart.");
 
-    String actualQuantity = headerPage.getCartQuantity(true);
+    String actualQuantity = getHeaderPage().getCartQuantity(true);
     logger.debug("Cart quantity after update: {}", actualQuantity);
 
     assertEquals(actualQuantity, "1", formatMessage("Cart quantity mismatch. Expected: '%s', Actual: '%s'", "1", actualQuantity));
@@ -143,13 +136,13 @@ public class CartPageTest extends BaseTest {
     logger.info("Test: Verifying cart item navigates to the correct detail page.");
     addRandomItemAndNavigateToCartPage();
 
-    List<ProductCard> cartItems = cartPage.getListProductCard();
+    List<ProductCard> cartItems = getCartPage().getListProductCard();
     logger.debug("Cart items: {}", cartItems);
 
     cartItems.get(0).clickNameLink();
     logger.info("Clicked on the first item's name link.");
 
-    String currentUrl = driver.getCurrentUrl();
+    String currentUrl = getDriver().getCurrentUrl();
     assertTrue(currentUrl.contains("inventory-item.html?id="));
   }
 }
@@ -1,9 +1,14 @@
+import org.example.constants.BusinessSetting;
 import org.example.constants.PageContent;
+import org.example.driver.Browser;
+import org.example.driver.BrowserProfile;
+import org.example.driver.DriverManager;
+import org.example.driver.SessionCheckpoints;
 import org.example.models.Item;
+import org.example.models.Money;
+import org.example.models.OrderSummary;
 import org.example.models.ProductCard;
-import org.example.pages.CartPage;
 import org.example.pages.CheckoutPage;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Parameters;
 import org.testng.annotations.Test;
 
@@ -12,20 +17,20 @@ import java.util.List;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
+@Browser(BrowserProfile.TEXT_ONLY)
 public class CheckoutTest extends BaseTest {
 
-  CartPage cartPage;
-  CheckoutPage checkoutPage;
-
-
-  @BeforeMethod
-  public void additionalSetUp() {
-    logger.info("Initializing CartPage.");
-    cartPage = new CartPage(driver);
+  private CheckoutPage getCheckoutPage() {
+    return DriverManager.getSession().getCheckoutPage();
+  }
 
-    logger.info("Initializing CheckoutPage.");
-    checkoutPage = new CheckoutPage(driver);
-    logger.debug("CheckoutPage initialized successfully.");
+  // Login, cart, checkout and client information are set up once per suite and restored for the other tests.
+  private void openCheckoutStepTwo(int countItem) {
+    SessionCheckpoints.restoreOrCapture(getDriver(), "checkoutStepTwo", () -> {
+      addItemAndNavigateToCheckoutPage(countItem);
+      getCheckoutPage().generateAndInputClientInformation();
+      getCheckoutPage().clickContinueButton();
+    }, getParameter("loginUsername"), countItem);
   }
 
   @Test
@@ -34,19 +39,19 @@ public class CheckoutTest extends BaseTest {
     addItemAndNavigateToCheckoutPage(1);
 
     logger.info("Verifying the title of Checkout Step One page.");
-    assertEquals(headerPage.getTitlePage(), PageContent.CheckoutPageContent.TITLE_PAGE_ONE_STEP, "Page title does not match expected value.");
+    assertEquals(getHeaderPage().getTitlePage(), PageContent.CheckoutPageContent.TITLE_PAGE_ONE_STEP, "Page title does not match expected value.");
 
     logger.debug("Checking presence of input fields and buttons.");
-    assertTrue(checkoutPage.isFirstNameDisplayed(), "'First Name' field not displayed.");
-    assertTrue(checkoutPage.isLastNameDisplayed(), "'Last Name' field not displayed.");
-    assertTrue(checkoutPage.isPostalCodeDisplayed(), "'Postal Code' field not displayed.");
-    assertTrue(checkoutPage.isCancelButtonDisplayed(), "'Cancel' button not displayed.");
-    assertTrue(checkoutPage.isContinueButtonDisplayed(), "'Continue' button not displayed.");
+    assertTrue(getCheckoutPage().isFirstNameDisplayed(), "'First Name' field not displayed.");
+    assertTrue(getCheckoutPage().isLastNameDisplayed(), "'Last Name' field not displayed.");
+    assertTrue(getCheckoutPage().isPostalCodeDisplayed(), "'Postal Code' field not displayed.");
+    assertTrue(getCheckoutPage().isCancelButtonDisplayed(), "'Cancel' button not displayed.");
+    assertTrue(getCheckoutPage().isContinueButtonDisplayed(), "'Continue' button not displayed.");
 
     logger.info("Verifying placeholders for input fields.");
-    assertEquals(checkoutPage.getPlaceholderFieldFirstName(), PageContent.CheckoutPageContent.FIRST_NAME, "First Name placeholder mismatch.");
-    assertEquals(checkoutPage.getPlaceholderFieldLastName(), PageContent.CheckoutPageContent.LAST_NAME, "Last Name placeholder mismatch.");
-    assertEquals(checkoutPage.getPlaceholderFieldPostCode(), PageContent.CheckoutPageContent.POSTAL_CODE, "Postal Code placeholder mismatch.");
+    assertEquals(getCheckoutPage().getPlaceholderFieldFirstName(), PageContent.CheckoutPageContent.FIRST_NAME, "First Name placeholder mismatch.");
+    assertEquals(getCheckoutPage().getPlaceholderFieldLastName(), PageContent.CheckoutPageContent.LAST_NAME, "Last Name placeholder mismatch.");
+    assertEquals(getCheckoutPage().getPlaceholderFieldPostCode(), PageContent.CheckoutPageContent.POSTAL_CODE, "Postal Code placeholder mismatch.");
   }
 
   @Parameters("cartPageUrl")
@@ -56,10 +61,10 @@ public class CheckoutTest extends BaseTest {
     addItemAndNavigateToCheckoutPage(2);
 
     logger.info("Clicking the 'Cancel' button.");
-    checkoutPage.clickCancelButton();
+    getCheckoutPage().clickCancelButton();
     logger.debug("Cancel button clicked, verifying navigation to Cart page.");
 
-    String actualTitlePage = headerPage.getTitlePage();
+    String actualTitlePage = getHeaderPage().getTitlePage();
     logger.debug("Current page title: {}", actualTitlePage);
 
     logger.info("Verifying the page title matches the expected Cart page title.");
@@ -77,12 +82,12 @@ public class CheckoutTest extends BaseTest {
     addItemAndNavigateToCheckoutPage(2);
 
     logger.info("Entering client information.");
-    checkoutPage.generateAndInputClientInformation();
+    getCheckoutPage().generateAndInputClientInformation();
 
     logger.info("Clicking 'Continue' button to proceed to Checkout Step Two.");
-    checkoutPage.clickContinueButton();
+    getCheckoutPage().clickContinueButton();
 
-    String actualTitlePage = headerPage.getTitlePage();
+    String actualTitlePage = getHeaderPage().getTitlePage();
     logger.debug("Current page title: {}", actualTitlePage);
 
     assertEquals(actualTitlePage, PageContent.CheckoutPageContent.TITLE_PAGE_SECOND_STEP, "Title mismatch for Checkout Step Two.");
@@ -91,21 +96,21 @@ public class CheckoutTest extends BaseTest {
   @Test
   public void verifyItemDetailInOderSummary() {
     logger.info("Test: Verifying item details in Order Summary.");
-    List<Integer> listIndexAddedItems = productPage.addItemsToCartAndReturnListAddedIndexItem(2);
+    List<Integer> listIndexAddedItems = getProductPage().addItemsToCartAndReturnListAddedIndexItem(2);
 
     logger.debug("Fetching added product details for comparison.");
-    List<ProductCard> addedProductCardList = productPage.getListProductCardByIndexItemList(listIndexAddedItems);
+    List<ProductCard> addedProductCardList = getProductPage().getListProductCardByIndexItemList(listIndexAddedItems);
     List<Item> itemDetailListExpect = extractItemDetailFromProductCardList(addedProductCardList, "");
     logger.debug("Expected item details: {}", itemDetailListExpect);
 
-    headerPage.openCart();
+    getHeaderPage().openCart();
     logger.debug("Cart page opened.");
 
-    cartPage.clickCheckoutButton();
-    checkoutPage.generateAndInputClientInformation();
-    checkoutPage.clickContinueButton();
+    getCartPage().clickCheckoutButton();
+    getCheckoutPage().generateAndInputClientInformation();
+    getCheckoutPage().clickContinueButton();
 
-    List<Item> itemDetailActual = checkoutPage.getListItemInOrder();
+    List<Item> itemDetailActual = getCheckoutPage().getOrderSummary().getItems();
     logger.debug("Actual item details retrieved: {}", itemDetailActual);
 
     assertEquals(itemDetailListExpect, itemDetailActual, "Item details mismatch between Cart and Order Summary.");
@@ -114,24 +119,20 @@ public class CheckoutTest extends BaseTest {
   @Test
   public void verifyOderTotalCalculation() {
     logger.info("Test: Verifying total order calculation.");
-    addItemAndNavigateToCheckoutPage(2);
-
-    logger.info("Entering client information.");
-    checkoutPage.generateAndInputClientInformation();
-
-    logger.info("Proceeding to Checkout Step Two.");
-    checkoutPage.clickContinueButton();
+    logger.info("Opening Checkout Step Two with client information entered.");
+    openCheckoutStepTwo(2);
 
     logger.debug("Retrieving actual totals from Order Summary.");
-    Double actualItemTotalOrder = checkoutPage.getItemTotalOrder();
-    Double actualTaxOrder = checkoutPage.getTaxOrder();
-    Double actualTotalOrder = checkoutPage.getTotalOrder();
+    OrderSummary orderSummary = getCheckoutPage().getOrderSummary();
+    Money actualItemTotalOrder = orderSummary.getItemTotal();
+    Money actualTaxOrder = orderSummary.getTax();
+    Money actualTotalOrder = orderSummary.getTotal();
     logger.debug("Actual - Item Total: {}, Tax: {}, Total: {}", actualItemTotalOrder, actualTaxOrder, actualTotalOrder);
 
     logger.debug("Calculating expected totals.");
-    Double expectItemTotalOrder = checkoutPage.calculateSumItemOrder();
-    Double expectTaxOrder = checkoutPage.calculateTaxOrder();
-    Double expectTotalOrder = checkoutPage.calculateTotal();
+    Money expectItemTotalOrder = orderSummary.calculateItemTotal();
+    Money expectTaxOrder = orderSummary.calculateTax(BusinessSetting.TAX_BASIS_POINTS);
+    Money expectTotalOrder = orderSummary.calculateTotal(BusinessSetting.TAX_BASIS_POINTS);
     logger.debug("Expected - Item Total: {}, Tax: {}, Total: {}", expectItemTotalOrder, expectTaxOrder, expectTotalOrder);
 
     assertEquals(expectItemTotalOrder, actualItemTotalOrder, "Item total mismatch.");
@@ -142,52 +143,44 @@ public class CheckoutTest extends BaseTest {
   @Test
   public void verityOrderCompletion() {
     logger.info("Test: Verifying order completion process.");
-    addItemAndNavigateToCheckoutPage(2);
-
-    logger.info("Entering client information.");
-    checkoutPage.generateAndInputClientInformation();
+    openCheckoutStepTwo(2);
 
     logger.info("Completing the order process.");
-    checkoutPage.clickContinueButton();
-    checkoutPage.clickFinishButton();
+    getCheckoutPage().clickFinishButton();
 
     logger.debug("Verifying order completion details.");
-    assertEquals(headerPage.getTitlePage(), PageContent.CheckoutPageContent.TITLE_PAGE_COMPLETE, "Order completion page title mismatch.");
-    assertEquals(checkoutPage.getTextCompleteHeader(), PageContent.CheckoutPageContent.COMPLETE_HEADER, "Order completion header mismatch.");
-    assertEquals(checkoutPage.getTextComplete(), PageContent.CheckoutPageContent.COMPLETE_TEXT, "Order completion text mismatch.");
-    assertTrue(checkoutPage.isBackToProductButtonDisplayed(), "'Back Home' button not displayed.");
-    assertEquals(checkoutPage.getBackToProductButtonContent(), PageContent.CheckoutPageContent.BACK_TO_HOME_BUTTON, "'Back Home' button content mismatch.");
+    assertEquals(getHeaderPage().getTitlePage(), PageContent.CheckoutPageContent.TITLE_PAGE_COMPLETE, "Order completion page title mismatch.");
+    assertEquals(getCheckoutPage().getTextCompleteHeader(), PageContent.CheckoutPageContent.COMPLETE_HEADER, "Order completion header mismatch.");
+    assertEquals(getCheckoutPage().getTextComplete(), PageContent.CheckoutPageContent.COMPLETE_TEXT, "Order completion text mismatch.");
+    assertTrue(getCheckoutPage().isBackToProductButtonDisplayed(), "'Back Home' button not displayed.");
+    assertEquals(getCheckoutPage().getBackToProductButtonContent(), PageContent.CheckoutPageContent.BACK_TO_HOME_BUTTON, "'Back Home' button content mismatch.");
   }
 
   @Test
   public void verityBackButtonNavigatesToProductPage() {
     logger.info("Test: Verifying 'Back Home' button navigates to Product page.");
-    addItemAndNavigateToCheckoutPage(2);
+    openCheckoutStepTwo(2);
 
-    logger.info("Entering client information and completing the order.");
-    checkoutPage.generateAndInputClientInformation();
-    checkoutPage.clickContinueButton();
-    checkoutPage.clickFinishButton();
+    logger.info("Completing the order.");
+    getCheckoutPage().clickFinishButton();
 
     logger.info("Clicking 'Back Home' button.");
-    checkoutPage.clickBackToProductButton();
+    getCheckoutPage().clickBackToProductButton();
 
     logger.debug("Verifying navigation to Product page.");
-    assertEquals(headerPage.getTitlePage(), PageContent.ProductPage.TITLE_PAGE, "Navigation to Product page failed.");
+    assertEquals(getHeaderPage().getTitlePage(), PageContent.ProductPage.TITLE_PAGE, "Navigation to Product page failed.");
   }
 
   @Test
   public void verityCartEmptyAfterCompletedOrder() {
     logger.info("Test: Verifying cart is empty after order completion.");
-    addItemAndNavigateToCheckoutPage(2);
+    openCheckoutStepTwo(2);
 
     logger.info("Completing the order process.");
-    checkoutPage.generateAndInputClientInformation();
-    checkoutPage.clickContinueButton();
-    checkoutPage.clickFinishButton();
-    checkoutPage.clickBackToProductButton();
+    getCheckoutPage().clickFinishButton();
+    getCheckoutPage().clickBackToProductButton();
 
     logger.debug("Checking if cart is empty.");
-    assertTrue(headerPage.isCartQuantityAbsent(), "Cart is not empty after order completion.");
+    assertTrue(getHeaderPage().isCartQuantityAbsent(), "Cart is not empty after order completion.");
   }
 }
@@ -0,0 +1,97 @@
+import org.example.driver.DriverBinaries;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+
+public class DriverBinariesTest {
+  // Methods may run in parallel, so each thread gets its own directory for caches and lockfiles.
+  private final ThreadLocal<Path> workDir = new ThreadLocal<>();
+
+  @BeforeMethod
+  public void createWorkDir() throws IOException {
+    workDir.set(Files.createTempDirectory("driver-binaries-test"));
+  }
+
+  @AfterMethod(alwaysRun = true)
+  public void deleteWorkDir() throws IOException {
+    Path dir = workDir.get();
+    workDir.remove();
+    if (dir == null) {
+      return;
+    }
+    try (Stream<Path> files = Files.walk(dir)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  @Test
+  public void lockfileResolvesPinnedDriverFromCache() throws IOException {
+    Path cache = Files.createDirectory(workDir.get().resolve("driver-cache"));
+    Files.createDirectories(cache.resolve("chromedriver/linux64/115.0.5790.170"));
+    Path pinned = Files.createFile(cache.resolve("chromedriver/linux64/115.0.5790.170/chromedriver"));
+    Files.createDirectories(cache.resolve("chromedriver/linux64/116.0.5845.96"));
+    Files.createFile(cache.resolve("chromedriver/linux64/116.0.5845.96/chromedriver"));
+    Path lockfile = writeLock("chromedriver.version=115.0.5790.170\nchrome.version=115.0.5790.170\n"
+        + "chrome.binary=/opt/chrome-115/chrome\n");
+
+    DriverBinaries.Resolution resolution = DriverBinaries.resolveFromLockfile(lockfile, cache);
+
+    assertEquals(resolution.source(), "lockfile");
+    assertEquals(resolution.driverPath(), pinned);
+    assertEquals(resolution.browserVersion(), "115.0.5790.170");
+    assertEquals(resolution.browserBinary(), "/opt/chrome-115/chrome");
+  }
+
+  @Test
+  public void stalePinnedPathFallsBackToCache() throws IOException {
+    Path cache = Files.createDirectory(workDir.get().resolve("driver-cache"));
+    Files.createDirectories(cache.resolve("chromedriver/linux64/115.0.5790.170"));
+    Path cached = Files.createFile(cache.resolve("chromedriver/linux64/115.0.5790.170/chromedriver"));
+    Path lockfile = writeLock("chromedriver.version=115.0.5790.170\n"
+        + "chromedriver.path=/home/someone-else/.cache/selenium/chromedriver/linux64/115.0.5790.170/chromedriver\n");
+
+    DriverBinaries.Resolution resolution = DriverBinaries.resolveFromLockfile(lockfile, cache);
+
+    assertEquals(resolution.driverPath(), cached);
+  }
+
+  @Test
+  public void missingPinnedDriverFails() throws IOException {
+    Path cache = Files.createDirectory(workDir.get().resolve("driver-cache"));
+    Path lockfile = writeLock("chromedriver.version=115.0.5790.170\n");
+
+    assertThrows(IllegalStateException.class, () -> DriverBinaries.resolveFromLockfile(lockfile, cache));
+    assertThrows(IllegalStateException.class,
+        () -> DriverBinaries.resolveFromLockfile(writeLock("chrome.version=115\n"), cache));
+  }
+
+  @Test
+  public void writtenLockfilePinsResolvedDriver() throws IOException {
+    Path driver = Files.createFile(workDir.get().resolve("chromedriver"));
+    Path lockfile = workDir.get().resolve("driver-lock.properties");
+    DriverBinaries.writeLockfile(lockfile,
+        new DriverBinaries.Resolution("webdrivermanager", "116.0.5845.96", driver, null, null));
+
+    DriverBinaries.Resolution resolution = DriverBinaries.resolveFromLockfile(lockfile, Path.of("missing-cache"));
+
+    assertEquals(resolution.driverVersion(), "116.0.5845.96");
+    assertEquals(resolution.driverPath(), driver.toAbsolutePath());
+    assertNull(resolution.browserBinary());
+  }
+
+  private Path writeLock(String content) throws IOException {
+    return Files.writeString(Files.createTempFile(workDir.get(), "driver-lock", ".properties"), content);
+  }
+}
@@ -0,0 +1,156 @@
+import org.example.constants.BusinessSetting;
+import org.example.constants.PageContent;
+import org.example.constants.SauceDemoUsers;
+import org.example.models.Money;
+import org.example.models.OrderSummary;
+import org.example.pages.CartPage;
+import org.example.pages.CheckoutPage;
+import org.example.pages.HeaderPage;
+import org.example.pages.LoginPage;
+import org.example.pages.ProductPage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import standin.FakeSauceDemoDriver;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class FakeSauceDemoTest {
+  private static final String INVENTORY_URL = FakeSauceDemoDriver.BASE_URL + "inventory.html";
+
+  // The suite runs methods in parallel, so each thread keeps its own driver.
+  private final ThreadLocal<FakeSauceDemoDriver> drivers = new ThreadLocal<>();
+
+  @BeforeMethod
+  public void openLoginPage() {
+    FakeSauceDemoDriver driver = new FakeSauceDemoDriver();
+    drivers.set(driver);
+    driver.get(FakeSauceDemoDriver.BASE_URL);
+  }
+
+  @AfterMethod(alwaysRun = true)
+  public void quit() {
+    FakeSauceDemoDriver driver = drivers.get();
+    drivers.remove();
+    if (driver != null) {
+      driver.quit();
+    }
+  }
+
+  private FakeSauceDemoDriver driver() {
+    return drivers.get();
+  }
+
+  @Test
+  public void loginShowsErrorsAndClosesThem() {
+    LoginPage loginPage = new LoginPage(driver());
+    loginPage.login("", SauceDemoUsers.PASSWORD);
+    assertEquals(loginPage.getErrorMessage(), PageContent.LoginPageContent.USERNAME_REQUIRED_ERROR);
+
+    loginPage.closeButtonErrorMessage();
+    assertTrue(loginPage.ErrorMessageIsDisabled());
+
+    driver().navigate().refresh();
+    loginPage.login(SauceDemoUsers.LOCKED_OUT_USER, SauceDemoUsers.PASSWORD);
+    assertEquals(loginPage.getErrorMessage(), PageContent.LoginPageContent.USER_LOCKED_OUT_ERROR);
+    assertEquals(driver().getCurrentUrl(), FakeSauceDemoDriver.BASE_URL);
+  }
+
+  @Test
+  public void protectedPagesRedirectToLoginUntilSessionCookieIsSet() {
+    driver().get(INVENTORY_URL);
+    assertEquals(driver().getCurrentUrl(), FakeSauceDemoDriver.BASE_URL);
+    assertTrue(new LoginPage(driver()).getErrorMessage().contains("'/inventory.html'"));
+
+    assertTrue(new LoginPage(driver()).loginWithSessionCookie(FakeSauceDemoDriver.BASE_URL, INVENTORY_URL,
+        SauceDemoUsers.STANDARD_USER));
+    assertEquals(new HeaderPage(driver()).getTitlePage(), PageContent.ProductPage.TITLE_PAGE);
+  }
+
+  @Test
+  public void sortingReordersProducts() {
+    ProductPage productPage = new LoginPage(driver()).login(SauceDemoUsers.STANDARD_USER, SauceDemoUsers.PASSWORD);
+    assertEquals(driver().getCurrentUrl(), INVENTORY_URL);
+    assertEquals(productPage.getNumberOfProducts(), 6);
+    assertTrue(productPage.checkSorted(ProductPage.Column.NAME, false).sorted());
+
+    productPage.sortProductsCarsListBy("za");
+    ProductPage.SortVerdict verdict = productPage.checkSorted(ProductPage.Column.NAME, true);
+    assertTrue(verdict.sorted(), "Name (Z to A) failed: " + verdict);
+
+    productPage.sortProductsCarsListBy("hilo");
+    verdict = productPage.checkSorted(ProductPage.Column.PRICE, true);
+    assertTrue(verdict.sorted(), "Price (high to low) failed: " + verdict);
+  }
+
+  @Test
+  public void cartButtonsUpdateBadgeAndCart() {
+    ProductPage productPage = new LoginPage(driver()).login(SauceDemoUsers.STANDARD_USER, SauceDemoUsers.PASSWORD);
+    HeaderPage headerPage = new HeaderPage(driver());
+    assertTrue(headerPage.isCartQuantityAbsent());
+
+    Set<String> cart = productPage.addToCart(List.of(0, 2, 4));
+    assertEquals(cart.size(), 3);
+    assertEquals(headerPage.getCartQuantity(true), "3");
+    assertEquals(productPage.getActualNameButton(2), PageContent.CommonContent.REMOVE_BUTTON_TEXT);
+
+    cart = productPage.removeFromCart(List.of(2));
+    assertEquals(cart.size(), 2);
+    assertEquals(headerPage.getCartQuantity(true), "2");
+
+    headerPage.openCart();
+    CartPage cartPage = new CartPage(driver());
+    assertEquals(cartPage.getListProductCard().size(), 2);
+    cartPage.getProductCard(0).clickAddOrRemoveButton();
+    assertEquals(cartPage.getListItemDetailElements().size(), 1);
+    assertEquals(headerPage.getCartQuantity(true), "1");
+    assertEquals(driver().getCartItemIds().size(), 1);
+  }
+
+  @Test
+  public void checkoutTotalsIncludeTax() {
+    ProductPage productPage = new LoginPage(driver()).login(SauceDemoUsers.STANDARD_USER, SauceDemoUsers.PASSWORD);
+    productPage.addToCart(List.of(0, 1, 3));
+    new HeaderPage(driver()).openCart();
+    new CartPage(driver()).clickCheckoutButton();
+
+    CheckoutPage checkoutPage = new CheckoutPage(driver());
+    checkoutPage.clickContinueButton();
+    assertEquals(new LoginPage(driver()).getErrorMessage(), "Error: First Name is required");
+    checkoutPage.generateAndInputClientInformation();
+    checkoutPage.clickContinueButton();
+
+    OrderSummary summary = checkoutPage.getOrderSummary();
+    assertEquals(summary.getItems().size(), 3);
+    assertEquals(summary.getItemTotal(), summary.calculateItemTotal());
+    assertEquals(summary.getTax(), summary.calculateTax(BusinessSetting.TAX_BASIS_POINTS));
+    assertEquals(summary.getTotal(), summary.getItemTotal().plus(summary.getTax()));
+    assertTrue(summary.getTotal().compareTo(Money.ZERO) > 0);
+
+    checkoutPage.clickFinishButton();
+    assertEquals(checkoutPage.getTextCompleteHeader(), PageContent.CheckoutPageContent.COMPLETE_HEADER);
+    assertTrue(driver().getCartItemIds().isEmpty());
+    assertNull(new HeaderPage(driver()).getCartQuantity(false));
+  }
+
+  @Test
+  public void elementsOfPreviousPageBecomeStale() {
+    WebElement username = driver().findElement(By.id("user-name"));
+    new LoginPage(driver()).login(SauceDemoUsers.STANDARD_USER, SauceDemoUsers.PASSWORD);
+    assertThrows(StaleElementReferenceException.class, username::getText);
+
+    driver().navigate().back();
+    assertEquals(driver().getCurrentUrl(), FakeSauceDemoDriver.BASE_URL);
+    assertFalse(driver().findElements(By.cssSelector("#login-button")).isEmpty());
+  }
+}
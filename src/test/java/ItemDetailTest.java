@@ -1,8 +1,10 @@
 import org.example.constants.PageContent;
+import org.example.driver.Browser;
+import org.example.driver.BrowserProfile;
+import org.example.driver.DriverManager;
 import org.example.models.Item;
 import org.example.models.ProductCard;
 import org.example.pages.ItemDetailPage;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Parameters;
 import org.testng.annotations.Test;
 
@@ -12,53 +14,53 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
 
+@Browser(BrowserProfile.TEXT_ONLY)
 public class ItemDetailTest extends BaseTest {
 
-  ItemDetailPage itemDetailPage;
-  List<ProductCard> productCardList;
-
-  @BeforeMethod
-  public void additionalSetUp() {
-    logger.info("Setting up ItemDetailPage and fetching product card list.");
-    itemDetailPage = new ItemDetailPage(driver);
-    productCardList = productPage.getListProductCard();
-    logger.debug("Product card list size: {}", productCardList.size());
+  private ItemDetailPage getItemDetailPage() {
+    return DriverManager.getSession().getItemDetailPage();
   }
 
   private int navigateToRandomProductDetailPage() {
+    return navigateToRandomProductDetailPage(getProductPage().getListProductCard());
+  }
+
+  private int navigateToRandomProductDetailPage(List<ProductCard> productCardList) {
+    logger.debug("Product card list size: {}", productCardList.size());
     int itemIndex = getRandomItem(productCardList);
-    productPage.navigateToProductDetailsPage(itemIndex);
+    getProductPage().navigateToProductDetailsPage(itemIndex);
     logger.info("Navigated to product details page for item index: {}", itemIndex);
     return itemIndex;
   }
 
-  @Test
+  @Test(groups = "images")
   public void verifyItemDetailsDisplaysElements() {
     logger.info("Test: Verifying item detail page displays all elements.");
     navigateToRandomProductDetailPage();
-    Item item = itemDetailPage.getItemDetail();
+    Item item = getItemDetailPage().getItemDetail();
     logger.debug("Fetched item detail: {}", item);
 
     verifyItemDetail(item,"all");
 
     logger.debug("Verifying 'Add/Remove' button state.");
-    assertButtonState(itemDetailPage.isAddOrRemoveItemButtonDisabled(), "'Add/Remove' button is not displayed.");
+    assertButtonState(getItemDetailPage().isAddOrRemoveItemButtonDisabled(), "'Add/Remove' button is not displayed.");
 
     logger.debug("Verifying 'Back to Products' button state.");
-    assertButtonState(itemDetailPage.isBackToProductButtonDisabled(), "'Back to Products' button is not displayed.");
+    assertButtonState(getItemDetailPage().isBackToProductButtonDisabled(), "'Back to Products' button is not displayed.");
   }
 
-  @Test
+  @Test(groups = "images")
   public void verifyItemDetailContentCorrect() {
     logger.info("Test: Verifying item detail content matches product card details.");
-    int itemIndex = navigateToRandomProductDetailPage();
+    List<ProductCard> productCardList = getProductPage().getListProductCard();
+    int itemIndex = navigateToRandomProductDetailPage(productCardList);
     logger.debug("Selected item index: {}", itemIndex);
 
     ProductCard productCard = productCardList.get(itemIndex);
     Item expected = extractItemDetailFromProductCard(productCard, "all");
     logger.debug("Expected item detail: {}", expected);
 
-    Item actual = itemDetailPage.getItemDetail();
+    Item actual = getItemDetailPage().getItemDetail();
     logger.debug("Actual item detail: {}", actual);
 
     verifyItemDetails(expected, actual);
@@ -71,7 +73,7 @@ public class ItemDetailTest extends BaseTest {
     navigateToRandomProductDetailPage();
 
     logger.info("Clicking 'Back to Products' button.");
-    itemDetailPage.clickBackToProductButton();
+    getItemDetailPage().clickBackToProductButton();
 
     logger.debug("Verifying current URL matches the expected products page URL.");
     verifyCurrentUrl(productsPageUrl);
@@ -83,9 +85,9 @@ public class ItemDetailTest extends BaseTest {
     navigateToRandomProductDetailPage();
 
     logger.info("Clicking 'Add/Remove' button to add item to cart.");
-    itemDetailPage.clickAddOrRemoveItemButton();
+    getItemDetailPage().clickAddOrRemoveItemButton();
 
-    String cartQuantity = headerPage.getCartQuantity(true);
+    String cartQuantity = getHeaderPage().getCartQuantity(true);
     logger.debug("Cart quantity after update: {}", cartQuantity);
 
     assertEquals(cartQuantity, "1", "Cart item count did not update correctly.");
@@ -96,17 +98,17 @@ public class ItemDetailTest extends BaseTest {
     logger.info("Test: Verifying item detail persists across navigation.");
     navigateToRandomProductDetailPage();
 
-    Item expected = itemDetailPage.getItemDetail();
+    Item expected = getItemDetailPage().getItemDetail();
     logger.debug("Expected item detail: {}", expected);
 
-    String currentUrl = driver.getCurrentUrl();
+    String currentUrl = getDriver().getCurrentUrl();
     logger.debug("Current item detail page URL: {}", currentUrl);
 
     logger.info("Navigating back to products and reloading item detail page.");
-    itemDetailPage.clickBackToProductButton();
-    driver.get(currentUrl);
+    getItemDetailPage().clickBackToProductButton();
+    getDriver().get(currentUrl);
 
-    Item actual = itemDetailPage.getItemDetail();
+    Item actual = getItemDetailPage().getItemDetail();
     logger.debug("Actual item detail after navigation: {}", actual);
 
     verifyItemDetails(expected, actual);
@@ -118,12 +120,12 @@ public class ItemDetailTest extends BaseTest {
     logger.info("Test: Verifying error messages are displayed for an invalid item ID.");
     String invalidUrl = itemDetailPageUrl + "999";
     logger.debug("Navigating to invalid item detail page URL: {}", invalidUrl);
-    driver.get(invalidUrl);
+    getDriver().get(invalidUrl);
 
-    String actualNameError = itemDetailPage.getItemName();
+    String actualNameError = getItemDetailPage().getItemName();
     logger.debug("Actual error name: {}", actualNameError);
 
-    String actualDescriptionError = itemDetailPage.getItemDescription();
+    String actualDescriptionError = getItemDetailPage().getItemDescription();
     logger.debug("Actual error description: {}", actualDescriptionError);
 
     assertEquals(actualNameError.toLowerCase(), PageContent.ItemDetailPageContent.ITEM_NOT_FOUND_ERROR.toLowerCase(),
@@ -1,58 +1,58 @@
-import io.github.bonigarcia.wdm.WebDriverManager;
 import listeners.TestLoggerListener;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.example.constants.PageContent;
+import org.example.driver.Browser;
+import org.example.driver.BrowserProfile;
+import org.example.driver.DriverManager;
+import org.example.driver.SessionContext;
 import org.example.pages.HeaderPage;
 import org.example.pages.LoginPage;
-import org.example.pages.ProductPage;
-import org.example.utils.ScreenshotUtil;
-import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
+import org.example.utils.TestLogBuffer;
+import org.testng.ITestResult;
 import org.testng.annotations.*;
 
 import static org.testng.Assert.*;
+@Browser(BrowserProfile.TEXT_ONLY)
 @Listeners(TestLoggerListener.class)
 public class LoginTest {
-  WebDriver driver;
-  LoginPage loginPage;
-  ProductPage productPage;
-
-  HeaderPage headerPage;
-
-  ScreenshotUtil screenshotUtil;
   protected final Logger logger = LogManager.getLogger(getClass());
 
   @Parameters("baseUrl")
   @BeforeMethod
-  public void setUp(String baseUrl) {
+  public void setUp(String baseUrl, ITestResult result) {
+    TestLogBuffer.clear();
     logger.info("Setting up WebDriver and initializing pages.");
-    WebDriverManager.chromedriver().setup();
-    driver = new ChromeDriver();
-    loginPage = new LoginPage(driver);
-    productPage = new ProductPage(driver);
-    headerPage = new HeaderPage(driver);
-    driver.get(baseUrl);
-    screenshotUtil = new ScreenshotUtil(driver);
+    SessionContext session = DriverManager.startSession(BrowserProfile.resolve(getClass(),
+        result.getMethod().getConstructorOrMethod().getMethod(), result.getMethod().getGroups()));
+    session.getDriver().get(baseUrl);
 
     logger.info("Navigated to login page {}", baseUrl);
 
   }
 
+  private LoginPage getLoginPage() {
+    return DriverManager.getSession().getLoginPage();
+  }
+
+  private HeaderPage getHeaderPage() {
+    return DriverManager.getSession().getHeaderPage();
+  }
+
   @Test
   public void successLogin() {
     logger.info("Successful login with valid credentials.");
 
-    loginPage.enterUserName("standard_user");
+    getLoginPage().enterUserName("standard_user");
     logger.debug("Entered username: standard_user");
 
-    loginPage.enterPassword("secret_sauce");
+    getLoginPage().enterPassword("secret_sauce");
     logger.debug("Entered password: secret_sauce");
 
-    loginPage.clickLoginButton();
+    getLoginPage().clickLoginButton();
     logger.info("Clicked login button.");
 
-    String actualTitle = headerPage.getTitlePage();
+    String actualTitle = getHeaderPage().getTitlePage();
     logger.debug("Actual page title: {}", actualTitle);
 
     assertEquals(actualTitle, PageContent.ProductPage.TITLE_PAGE, "Login was not successful!");
@@ -65,16 +65,16 @@ public class LoginTest {
   public void loginWithLockedUser() {
     logger.info("Login with locked user.");
 
-    loginPage.enterUserName("locked_out_user");
+    getLoginPage().enterUserName("locked_out_user");
     logger.debug("Entered username: locked_out_user");
 
-    loginPage.enterPassword("secret_sauce");
+    getLoginPage().enterPassword("secret_sauce");
     logger.debug("Entered password: secret_sauce");
 
-    loginPage.clickLoginButton();
+    getLoginPage().clickLoginButton();
     logger.info("Clicked login button.");
 
-    String actualErrorMessage = loginPage.getErrorMessage();
+    String actualErrorMessage = getLoginPage().getErrorMessage();
     logger.debug("Actual error message: {}", actualErrorMessage);
 
     assertEquals(actualErrorMessage, PageContent.LoginPageContent.USER_LOCKED_OUT_ERROR);
@@ -86,16 +86,16 @@ public class LoginTest {
   void failLoginWithWrongUserName() {
     logger.info("Failed login with wrong username.");
 
-    loginPage.enterUserName("aaa");
+    getLoginPage().enterUserName("aaa");
     logger.debug("Entered username: aaa");
 
-    loginPage.enterPassword("secret_sauce");
+    getLoginPage().enterPassword("secret_sauce");
     logger.debug("Entered password: secret_sauce");
 
-    loginPage.clickLoginButton();
+    getLoginPage().clickLoginButton();
     logger.info("Clicked login button.");
 
-    String actualErrorMessage = loginPage.getErrorMessage();
+    String actualErrorMessage = getLoginPage().getErrorMessage();
     logger.debug("Actual error message: {}", actualErrorMessage);
 
     assertEquals(actualErrorMessage,  PageContent.LoginPageContent.USERNAME_PASSWORD_MISMATCH_ERROR);
@@ -106,16 +106,16 @@ public class LoginTest {
   void failLoginWithWrongPassword() {
     logger.info("Failed login with wrong password.");
 
-    loginPage.enterUserName("standard_user");
+    getLoginPage().enterUserName("standard_user");
     logger.debug("Entered username: standard_user");
 
-    loginPage.enterPassword("secret");
+    getLoginPage().enterPassword("secret");
     logger.debug("Entered password: secret");
 
-    loginPage.clickLoginButton();
+    getLoginPage().clickLoginButton();
     logger.info("Clicked login button.");
 
-    String actualErrorMessage = loginPage.getErrorMessage();
+    String actualErrorMessage = getLoginPage().getErrorMessage();
     logger.debug("Actual error message: {}", actualErrorMessage);
 
     assertEquals(actualErrorMessage,  PageContent.LoginPageContent.USERNAME_PASSWORD_MISMATCH_ERROR);
@@ -126,13 +126,13 @@ public class LoginTest {
   public void failLoginWithEmptyUsername() {
     logger.info("Failed login with empty username.");
 
-    loginPage.enterPassword("secret_sauce");
+    getLoginPage().enterPassword("secret_sauce");
     logger.debug("Entered password: secret_sauce");
 
-    loginPage.clickLoginButton();
+    getLoginPage().clickLoginButton();
     logger.info("Clicked login button.");
 
-    String actualErrorMessage = loginPage.getErrorMessage();
+    String actualErrorMessage = getLoginPage().getErrorMessage();
     logger.debug("Actual error message: {}", actualErrorMessage);
 
     assertEquals(actualErrorMessage,  PageContent.LoginPageContent.USERNAME_REQUIRED_ERROR);
@@ -143,13 +143,13 @@ public class LoginTest {
   public void failLoginWithEmptyPassword() {
     logger.info("Failed login with empty password.");
 
-    loginPage.enterUserName("standard_user");
+    getLoginPage().enterUserName("standard_user");
     logger.debug("Entered username: standard_user");
 
-    loginPage.clickLoginButton();
+    getLoginPage().clickLoginButton();
     logger.info("Clicked login button.");
 
-    String actualErrorMessage = loginPage.getErrorMessage();
+    String actualErrorMessage = getLoginPage().getErrorMessage();
     logger.debug("Actual error message: {}", actualErrorMessage);
 
     assertEquals(actualErrorMessage,  PageContent.LoginPageContent.PASSWORD_REQUIRED_ERROR);
@@ -160,25 +160,23 @@ public class LoginTest {
   public void disableErrorMessage() {
     logger.info("Disable error message.");
 
-    loginPage.clickLoginButton();
+    getLoginPage().clickLoginButton();
     logger.info("Clicked login button without entering credentials.");
 
-    loginPage.closeButtonErrorMessage();
+    getLoginPage().closeButtonErrorMessage();
     logger.info("Clicked close button on the error message.");
 
-    boolean isErrorMessageDisable = loginPage.ErrorMessageIsDisabled();
+    boolean isErrorMessageDisable = getLoginPage().ErrorMessageIsDisabled();
     logger.debug("Error message enabled state: {}", isErrorMessageDisable);
 
     assertTrue(isErrorMessageDisable);
     logger.info("Disable error message test passed.");
   }
 
-  @AfterMethod
+  @AfterMethod(alwaysRun = true)
   public void tearDown() {
     logger.info("Tearing down WebDriver.");
-    if (driver != null) {
-      driver.quit();
-    }
+    DriverManager.endSession();
     logger.info("WebDriver quit successfully.");
   }
 }
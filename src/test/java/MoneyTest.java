@@ -0,0 +1,59 @@
+import org.example.constants.BusinessSetting;
+import org.example.models.Money;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+public class MoneyTest {
+
+  @Test
+  public void parsePriceWithCurrencySymbol() {
+    assertEquals(Money.parse("$29.99").getCents(), 2999);
+    assertEquals(Money.parse("$7.99").getCents(), 799);
+    assertEquals(Money.parse("$15").getCents(), 1500);
+  }
+
+  @Test
+  public void parsePriceWithLabel() {
+    assertEquals(Money.parse("Item total: $39.98").getCents(), 3998);
+    assertEquals(Money.parse("Tax: $3.20").getCents(), 320);
+    assertEquals(Money.parse("Total: $43.18").getCents(), 4318);
+  }
+
+  @Test
+  public void parsePriceRoundsExtraFractionDigits() {
+    assertEquals(Money.parse("$3.5").getCents(), 350);
+    assertEquals(Money.parse("$3.199").getCents(), 320);
+    assertEquals(Money.parse("$3.194").getCents(), 319);
+  }
+
+  @Test
+  public void parsePriceWithoutDigitsFails() {
+    assertThrows(NumberFormatException.class, () -> Money.parse("$"));
+    assertThrows(NumberFormatException.class, () -> Money.parse(null));
+  }
+
+  @Test
+  public void taxIsRoundedHalfUp() {
+    Money itemTotal = Money.parse("$39.98");
+    assertEquals(itemTotal.applyRate(BusinessSetting.TAX_BASIS_POINTS), Money.ofCents(320));
+    assertEquals(Money.parse("$0.06").applyRate(BusinessSetting.TAX_BASIS_POINTS), Money.ZERO);
+    assertEquals(Money.parse("$0.07").applyRate(BusinessSetting.TAX_BASIS_POINTS), Money.ofCents(1));
+  }
+
+  @Test
+  public void sumHasNoFloatingPointDrift() {
+    Money sum = Money.ZERO;
+    for (int i = 0; i < 10; i++) {
+      sum = sum.plus(Money.parse("$0.10"));
+    }
+    assertEquals(sum, Money.ofCents(100));
+    assertEquals(sum.toString(), "1.00");
+  }
+
+  @Test
+  public void taxSettingIsEightPercent() {
+    assertEquals(Money.parse("$1.00").applyRate(BusinessSetting.TAX_BASIS_POINTS), Money.ofCents(8));
+  }
+}
@@ -1,25 +1,25 @@
 import org.example.constants.BusinessSetting;
 import org.example.constants.PageContent;
+import org.example.driver.Browser;
+import org.example.driver.BrowserProfile;
+import org.example.pages.ProductPage;
 import org.testng.annotations.Test;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static org.example.utils.MessageUtils.formatMessage;
 import static org.testng.Assert.*;
 
+@Browser(BrowserProfile.TEXT_ONLY)
 public class ProductCardsTest extends BaseTest {
 
 
-  @Test
+  @Test(groups = "images")
   public void verifyProductCardDisplayedElements() {
     logger.info("Test: Verifying that all product cards display the required elements.");
     verifyProductCardDisplayed("all");
 
-    int actualProductCount = productPage.getNumberOfProducts();
+    int actualProductCount = getProductPage().getNumberOfProducts();
     int expectedProductCount = Integer.parseInt(BusinessSetting.NUMBER_PRODUCTS_PRODUCT_PAGE);
     logger.debug("Verification of product count: Actual={}, Expected={}", actualProductCount, expectedProductCount);
 
@@ -30,74 +30,50 @@ public class ProductCardsTest extends BaseTest {
   @Test
   public void verifySortProductsByNameAscending() {
     logger.info("Test: Sorting products by Name (A to Z).");
-    productPage.sortProductsCarsListBy("az");
-
-    List<String> actualSortProductList = productPage.getListProductCard()
-        .stream().map(productCard -> productCard.getItemDetails().getName()).collect(Collectors.toList());
-    logger.debug("Sorted product names (Actual): {}", actualSortProductList);
-
-    List<String> expectedSortProductList = new ArrayList<>(actualSortProductList);
-    Collections.sort(expectedSortProductList);
-    logger.debug("Sorted product names (Expected): {}", expectedSortProductList);
+    getProductPage().sortProductsCarsListBy("az");
+    ProductPage.SortVerdict verdict = getProductPage().checkSorted(ProductPage.Column.NAME, false);
+    logger.debug("Sort verdict: {}", verdict);
 
-    assertEquals(actualSortProductList, expectedSortProductList, "Sorting by Name (A to Z) failed.");
+    assertTrue(verdict.sorted(), "Sorting by Name (A to Z) failed: " + verdict);
   }
 
   @Test
   public void verifySortProductsByNameDescending() {
     logger.info("Test: Sorting products by Name (Z to A).");
-    productPage.sortProductsCarsListBy("za");
-
-    List<String> actualSortProductList = productPage.getListProductCard()
-        .stream().map(productCard -> productCard.getItemDetails().getName()).collect(Collectors.toList());
-    logger.debug("Sorted product names (Actual): {}", actualSortProductList);
-
-    List<String> expectedSortProductList = new ArrayList<>(actualSortProductList);
-    expectedSortProductList.sort(Comparator.reverseOrder());
-    logger.debug("Sorted product names (Expected): {}", expectedSortProductList);
+    getProductPage().sortProductsCarsListBy("za");
+    ProductPage.SortVerdict verdict = getProductPage().checkSorted(ProductPage.Column.NAME, true);
+    logger.debug("Sort verdict: {}", verdict);
 
-    assertEquals(actualSortProductList, expectedSortProductList, "Sorting by Name (Z to A) failed.");
+    assertTrue(verdict.sorted(), "Sorting by Name (Z to A) failed: " + verdict);
   }
 
   @Test
   public void verifySortProductsByPriceAscending() {
     logger.info("Test: Sorting products by Price (low to high).");
-    productPage.sortProductsCarsListBy("lohi");
+    getProductPage().sortProductsCarsListBy("lohi");
+    ProductPage.SortVerdict verdict = getProductPage().checkSorted(ProductPage.Column.PRICE, false);
+    logger.debug("Sort verdict: {}", verdict);
 
-    List<Double> actualSortProductList = productPage.getListProductCard()
-        .stream().map(productCard -> productCard.getItemDetails().getPrice()).collect(Collectors.toList());
-    logger.debug("Sorted product prices (Actual): {}", actualSortProductList);
-
-    List<Double> expectedSortProductList = new ArrayList<>(actualSortProductList);
-    Collections.sort(expectedSortProductList);
-    logger.debug("Sorted product prices (Expected): {}", expectedSortProductList);
-
-    assertEquals(actualSortProductList, expectedSortProductList, "Sorting by Price (low to high) failed.");
+    assertTrue(verdict.sorted(), "Sorting by Price (low to high) failed: " + verdict);
   }
 
   @Test
   public void verifySortProductsByPriceDescending() {
     logger.info("Test: Sorting products by Price (high to low).");
-    productPage.sortProductsCarsListBy("hilo");
-
-    List<Double> actualSortProductList = productPage.getListProductCard()
-        .stream().map(productCard -> productCard.getItemDetails().getPrice()).collect(Collectors.toList());
-    logger.debug("Sorted product prices (Actual): {}", actualSortProductList);
-
-    List<Double> expectedSortProductList = new ArrayList<>(actualSortProductList);
-    expectedSortProductList.sort(Comparator.reverseOrder());
-    logger.debug("Sorted product prices (Expected): {}", expectedSortProductList);
+    getProductPage().sortProductsCarsListBy("hilo");
+    ProductPage.SortVerdict verdict = getProductPage().checkSorted(ProductPage.Column.PRICE, true);
+    logger.debug("Sort verdict: {}", verdict);
 
-    assertEquals(actualSortProductList, expectedSortProductList, "Sorting by Price (high to low) failed.");
+    assertTrue(verdict.sorted(), "Sorting by Price (high to low) failed: " + verdict);
   }
 
   @Test
   public void addSingleItemToCart_ButtonTextChangesToRemove() {
     logger.info("Test: Adding a single item to the cart and verifying the button text changes to 'Remove'.");
-    int indexItemAdded = productPage.addItemToCardAndReturnItemIndex();
+    int indexItemAdded = getProductPage().addItemToCardAndReturnItemIndex();
     logger.debug("Item added to the cart at index: {}", indexItemAdded);
 
-    String actualButtonName = productPage.getActualNameButton(indexItemAdded);
+    String actualButtonName = getProductPage().getActualNameButton(indexItemAdded);
     String expectedButtonName = PageContent.CommonContent.REMOVE_BUTTON_TEXT;
     logger.debug("Button text verification: Actual='{}', Expected='{}'", actualButtonName, expectedButtonName);
 
@@ -108,14 +84,14 @@ public class ProductCardsTest extends BaseTest {
   @Test
   public void addMultipleItemsToCart_ButtonTextChangesToRemove() {
     logger.info("Test: Adding multiple items to the cart and verifying the button text changes to 'Remove'.");
-    int firstIndexItemAdded = productPage.addItemToCardAndReturnItemIndex();
+    int firstIndexItemAdded = getProductPage().addItemToCardAndReturnItemIndex();
     logger.debug("First item added to the cart at index: {}", firstIndexItemAdded);
 
-    int secondIndexItemAdded = productPage.addItemToCardAndReturnItemIndex();
+    int secondIndexItemAdded = getProductPage().addItemToCardAndReturnItemIndex();
     logger.debug("Second item added to the cart at index: {}", secondIndexItemAdded);
 
-    String actualFirstButtonName = productPage.getActualNameButton(firstIndexItemAdded);
-    String actualSecondButtonName = productPage.getActualNameButton(secondIndexItemAdded);
+    String actualFirstButtonName = getProductPage().getActualNameButton(firstIndexItemAdded);
+    String actualSecondButtonName = getProductPage().getActualNameButton(secondIndexItemAdded);
 
     assertEquals(actualFirstButtonName, PageContent.CommonContent.REMOVE_BUTTON_TEXT,
         formatMessage("Mismatch in button text for the first item. Actual='%s', Expected='Remove'", actualFirstButtonName));
@@ -126,13 +102,13 @@ public class ProductCardsTest extends BaseTest {
   @Test
   public void removeSingleItemFromCart_ButtonTextChangesToAddToCart() {
     logger.info("Test: Removing a single item from the cart and verifying the button text changes to 'Add to Cart'.");
-    int indexItem = productPage.addItemToCardAndReturnItemIndex();
+    int indexItem = getProductPage().addItemToCardAndReturnItemIndex();
     logger.debug("Item added to the cart at index: {}", indexItem);
 
-    productPage.removeItemFromCard(indexItem);
+    getProductPage().removeItemFromCard(indexItem);
     logger.debug("Item removed from the cart at index: {}", indexItem);
 
-    String actualButtonName = productPage.getActualNameButton(indexItem);
+    String actualButtonName = getProductPage().getActualNameButton(indexItem);
     String expectedButtonName = PageContent.CommonContent.ADD_TO_CART_BUTTON_TEXT;
 
     assertEquals(actualButtonName, expectedButtonName,
@@ -144,8 +120,8 @@ public class ProductCardsTest extends BaseTest {
     logger.info("Test: Adding multiple items to the cart and verifying the cart item count is updated.");
     int countAddedItem = 3;
 
-    productPage.addItemsToCart(countAddedItem);
-    String actualCartQuantity = headerPage.getCartQuantity(true);
+    getProductPage().addItemsToCart(countAddedItem);
+    String actualCartQuantity = getHeaderPage().getCartQuantity(true);
     String expectedCartQuantity = String.valueOf(countAddedItem);
     logger.debug("Cart quantity verification: Actual='{}', Expected='{}'", actualCartQuantity, expectedCartQuantity);
 
@@ -158,13 +134,13 @@ public class ProductCardsTest extends BaseTest {
     logger.info("Test: Removing a single item from the cart and verifying the cart item count is updated.");
     int countAddedItem = 3;
 
-    List<Integer> listIndexAddedItems = productPage.addItemsToCartAndReturnListAddedIndexItem(countAddedItem);
+    List<Integer> listIndexAddedItems = getProductPage().addItemsToCartAndReturnListAddedIndexItem(countAddedItem);
     logger.debug("Items added to the cart. Indices: {}", listIndexAddedItems);
 
-    productPage.removeItemFromCard(listIndexAddedItems.get(1));
+    getProductPage().removeItemFromCard(listIndexAddedItems.get(1));
     logger.debug("Item removed from the cart at index: {}", listIndexAddedItems.get(1));
 
-    String actualCartQuantity = headerPage.getCartQuantity(true);
+    String actualCartQuantity = getHeaderPage().getCartQuantity(true);
     String expectedCartQuantity = String.valueOf(countAddedItem - 1);
     logger.debug("Cart quantity verification: Actual='{}', Expected='{}'", actualCartQuantity, expectedCartQuantity);
 
@@ -177,13 +153,13 @@ public class ProductCardsTest extends BaseTest {
     logger.info("Test: Removing all items from the cart and verifying the cart item count is absent.");
     int countAddedItem = 2;
 
-    List<Integer> listIndexAddedItems = productPage.addItemsToCartAndReturnListAddedIndexItem(countAddedItem);
+    List<Integer> listIndexAddedItems = getProductPage().addItemsToCartAndReturnListAddedIndexItem(countAddedItem);
     logger.debug("Items added to the cart. Indices: {}", listIndexAddedItems);
 
-    productPage.removeItemsFromCart(listIndexAddedItems);
+    getProductPage().removeItemsFromCart(listIndexAddedItems);
     logger.debug("All items removed from the cart. Indices: {}", listIndexAddedItems);
 
-    boolean isCartQuantityAbsent = headerPage.isCartQuantityAbsent();
+    boolean isCartQuantityAbsent = getHeaderPage().isCartQuantityAbsent();
     logger.debug("Verification of cart being empty: {}", isCartQuantityAbsent);
 
     assertTrue(isCartQuantityAbsent, "The cart is not empty as expected.");
@@ -192,9 +168,9 @@ public class ProductCardsTest extends BaseTest {
   @Test
   public void clickOnNameLinkItem_NavigatesToProductDetailsPage() {
     logger.info("Test: Clicking on a product name and verifying navigation to the product details page.");
-    productPage.clickRandomItemNameLinkAndValidateNavigation();
+    getProductPage().clickRandomItemNameLinkAndValidateNavigation();
 
-    String currentUrl = driver.getCurrentUrl();
+    String currentUrl = getDriver().getCurrentUrl();
     logger.debug("Current URL after navigation: {}", currentUrl);
 
     assertTrue(currentUrl.contains("inventory-item.html?id="),
@@ -204,9 +180,9 @@ public class ProductCardsTest extends BaseTest {
   @Test
   public void clickOnImageLinkItem_NavigatesToProductDetailsPage() {
     logger.info("Test: Clicking on a product image and verifying navigation to the product details page.");
-    productPage.clickRandomItemImageLinkAndValidateNavigation();
+    getProductPage().clickRandomItemImageLinkAndValidateNavigation();
 
-    String currentUrl = driver.getCurrentUrl();
+    String currentUrl = getDriver().getCurrentUrl();
     logger.debug("Current URL after navigation: {}", currentUrl);
 
     assertTrue(currentUrl.contains("inventory-item.html?id="),
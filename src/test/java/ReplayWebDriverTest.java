@@ -0,0 +1,135 @@
+import org.example.constants.BusinessSetting;
+import org.example.driver.replay.CommandRecorder;
+import org.example.driver.replay.RecordedCommand;
+import org.example.driver.replay.RecordingCommandExecutor;
+import org.example.driver.replay.ReplayDeviation;
+import org.example.driver.replay.ReplayDeviationException;
+import org.example.driver.replay.ReplayWebDriver;
+import org.example.models.Money;
+import org.example.models.OrderSummary;
+import org.example.pages.CheckoutPage;
+import org.example.pages.ProductPage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class ReplayWebDriverTest {
+
+  private static final Map<String, Object> ORDER_SUMMARY = Map.of(
+      "items", List.of(
+          Map.of("name", "Sauce Labs Backpack", "description", "carry.allTheThings()", "price", "$29.99"),
+          Map.of("name", "Sauce Labs Bike Light", "description", "A red light", "price", "$9.99")),
+      "itemTotal", "Item total: $39.98",
+      "tax", "Tax: $3.20",
+      "total", "Total: $43.18");
+
+  @Test
+  public void replayServesRecordedOrderSummary() throws IOException {
+    Path recording = record(driver -> new CheckoutPage(driver).getOrderSummary());
+
+    ReplayWebDriver replay = ReplayWebDriver.load(recording, true);
+    OrderSummary summary = new CheckoutPage(replay).getOrderSummary();
+
+    assertEquals(summary.getItems().size(), 2);
+    assertEquals(summary.getItemTotal(), summary.calculateItemTotal());
+    assertEquals(summary.getTax(), summary.calculateTax(BusinessSetting.TAX_BASIS_POINTS));
+    assertEquals(summary.getTotal(), Money.parse("$43.18"));
+    replay.verifyReplayed();
+  }
+
+  @Test
+  public void replayRethrowsRecordedErrors() throws IOException {
+    Path recording = record(driver -> {
+      try {
+        driver.findElement(By.id("missing"));
+      } catch (NoSuchElementException expected) {
+        // Recorded as an error response.
+      }
+    });
+
+    ReplayWebDriver replay = ReplayWebDriver.load(recording, true);
+
+    assertThrows(NoSuchElementException.class, () -> replay.findElement(By.id("missing")));
+    replay.verifyReplayed();
+  }
+
+  @Test
+  public void strictReplayFailsOnUnexpectedCommand() throws IOException {
+    Path recording = record(driver -> new CheckoutPage(driver).getOrderSummary());
+
+    ReplayWebDriver replay = ReplayWebDriver.load(recording, true);
+
+    assertThrows(ReplayDeviationException.class, () -> new ProductPage(replay).getProductNames());
+    List<ReplayDeviation> deviations = replay.getDeviations();
+    assertEquals(deviations.get(0).kind(), ReplayDeviation.Kind.UNEXPECTED);
+    assertEquals(deviations.get(1).kind(), ReplayDeviation.Kind.NOT_REPLAYED);
+    assertThrows(IllegalStateException.class, replay::verifyReplayed);
+  }
+
+  @Test
+  public void lenientReplaySkipsAheadAndReportsSkippedCommands() throws IOException {
+    Path recording = record(driver -> {
+      driver.getTitle();
+      driver.getCurrentUrl();
+    });
+
+    ReplayWebDriver replay = ReplayWebDriver.load(recording, false);
+
+    assertEquals(replay.getCurrentUrl(), "https://www.saucedemo.com/inventory.html");
+    assertEquals(replay.getDeviations().size(), 1);
+    assertEquals(replay.getDeviations().get(0).kind(), ReplayDeviation.Kind.SKIPPED);
+  }
+
+  private static Path record(java.util.function.Consumer<RemoteWebDriver> scenario) throws IOException {
+    CommandRecorder.reset();
+    RemoteWebDriver driver = new RemoteWebDriver(new RecordingCommandExecutor(new StubExecutor()),
+        new ImmutableCapabilities("browserName", "stub"));
+    scenario.accept(driver);
+    List<RecordedCommand> commands = CommandRecorder.drain();
+    Path recording = Files.createTempFile("replay", ".jsonl");
+    recording.toFile().deleteOnExit();
+    CommandRecorder.write(recording, commands);
+    return recording;
+  }
+
+  // Stands in for the browser while recording.
+  private static class StubExecutor implements CommandExecutor {
+
+    @Override
+    public Response execute(Command command) {
+      Response response = new Response();
+      response.setSessionId("stub");
+      response.setStatus(0);
+      response.setState("success");
+      switch (command.getName()) {
+        case DriverCommand.NEW_SESSION -> response.setValue(Map.of("browserName", "stub"));
+        case DriverCommand.EXECUTE_SCRIPT -> response.setValue(ORDER_SUMMARY);
+        case DriverCommand.GET_TITLE -> response.setValue("Swag Labs");
+        case DriverCommand.GET_CURRENT_URL -> response.setValue("https://www.saucedemo.com/inventory.html");
+        case DriverCommand.FIND_ELEMENT -> {
+          response.setStatus(7);
+          response.setState("no such element");
+          response.setValue(new NoSuchElementException("no such element: Unable to locate element"));
+        }
+        default -> response.setValue(null);
+      }
+      return response;
+    }
+  }
+}
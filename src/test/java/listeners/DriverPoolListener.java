@@ -0,0 +1,29 @@
+package listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.driver.DriverPool;
+import org.example.driver.DriverReaper;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+public class DriverPoolListener implements ISuiteListener {
+  private static final Logger logger = LogManager.getLogger(DriverPoolListener.class);
+
+  @Override
+  public void onFinish(ISuite suite) {
+    if (DriverPool.isEnabled()) {
+      DriverPool.getInstances().forEach((profile, pool) -> {
+        logger.info("Driver pool statistics for suite '{}', profile {}: {}", suite.getName(), profile, pool.getStats());
+        pool.drain();
+      });
+    }
+    // Sessions quit in the background; wait for them before looking for leftover processes.
+    DriverReaper reaper = DriverReaper.getInstance();
+    if (!reaper.awaitIdle(reaper.getTimeoutMillis())) {
+      logger.warn("Driver reaper still has {} session(s) to quit.", reaper.getStats().backlog());
+    }
+    reaper.killOrphans();
+    logger.info("Driver reaper statistics for suite '{}': {}", suite.getName(), reaper.getStats());
+  }
+}
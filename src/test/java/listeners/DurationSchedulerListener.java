@@ -0,0 +1,128 @@
+package listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Orders test methods so the ones that failed last time run first and the rest run longest first.
+ * With parallel methods the pool hands the next method to whichever worker frees up, so submitting in this order
+ * is longest-processing-time-first list scheduling. Durations of the current run are saved when the suite ends.
+ * Disable with {@code -Dtest.schedule.byDuration=false}.
+ */
+public class DurationSchedulerListener implements IMethodInterceptor, ITestListener, ISuiteListener {
+  private static final Logger logger = LogManager.getLogger(DurationSchedulerListener.class);
+
+  private static TestDurations durations;
+
+  private final Map<String, AtomicLong> runMillis = new ConcurrentHashMap<>();
+  private final Set<String> runFailures = ConcurrentHashMap.newKeySet();
+
+  public static boolean isEnabled() {
+    return Boolean.parseBoolean(System.getProperty("test.schedule.byDuration", "true"));
+  }
+
+  static synchronized TestDurations getDurations() {
+    if (durations == null) {
+      durations = TestDurations.load(TestDurations.defaultFile());
+    }
+    return durations;
+  }
+
+  @Override
+  public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+    if (!isEnabled() || methods.size() < 2) {
+      return methods;
+    }
+    TestDurations history = getDurations();
+    List<IMethodInstance> ordered = new ArrayList<>(methods);
+    ordered.sort(Comparator
+        .comparing((IMethodInstance method) -> !history.failedLastRun(TestDurations.key(method.getMethod())))
+        .thenComparing(method -> history.getMillis(TestDurations.key(method.getMethod())), Comparator.reverseOrder()));
+
+    int workers = getWorkerCount(context);
+    logger.info("Scheduling {} methods of '{}' on {} worker(s): predicted makespan {} ms (declaration order {} ms).",
+        ordered.size(), context.getName(), workers, makespan(ordered, workers, history),
+        makespan(methods, workers, history));
+    return ordered;
+  }
+
+  @Override
+  public void onTestSuccess(ITestResult result) {
+    recordDuration(result, false);
+  }
+
+  @Override
+  public void onTestFailure(ITestResult result) {
+    recordDuration(result, true);
+  }
+
+  @Override
+  public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+    recordDuration(result, true);
+  }
+
+  @Override
+  public void onTestSkipped(ITestResult result) {
+    recordDuration(result, true);
+  }
+
+  @Override
+  public void onFinish(ISuite suite) {
+    if (runMillis.isEmpty()) {
+      return;
+    }
+    TestDurations history = getDurations();
+    runMillis.forEach((key, millis) -> history.update(key, millis.get(), runFailures.contains(key)));
+    history.saveTo(TestDurations.outputFile());
+    logger.info("Saved durations of {} test methods to {}.", runMillis.size(), TestDurations.outputFile());
+  }
+
+  private void recordDuration(ITestResult result, boolean failed) {
+    String key = TestDurations.key(result.getMethod());
+    // Data-driven methods are scheduled as one unit, so their invocations are summed.
+    runMillis.computeIfAbsent(key, name -> new AtomicLong()).addAndGet(result.getEndMillis() - result.getStartMillis());
+    if (failed) {
+      runFailures.add(key);
+    }
+  }
+
+  private static int getWorkerCount(ITestContext context) {
+    XmlSuite.ParallelMode parallel = context.getCurrentXmlTest().getParallel();
+    if (parallel == null || !parallel.isParallel()) {
+      return 1;
+    }
+    return Math.max(1, context.getCurrentXmlTest().getThreadCount());
+  }
+
+  // Greedy list scheduling: each method goes to the worker that becomes free first.
+  private static long makespan(List<IMethodInstance> methods, int workers, TestDurations history) {
+    PriorityQueue<Long> loads = new PriorityQueue<>();
+    for (int i = 0; i < workers; i++) {
+      loads.add(0L);
+    }
+    long makespan = 0;
+    for (IMethodInstance method : methods) {
+      long load = loads.poll() + history.getMillis(TestDurations.key(method.getMethod()));
+      makespan = Math.max(makespan, load);
+      loads.add(load);
+    }
+    return makespan;
+  }
+}
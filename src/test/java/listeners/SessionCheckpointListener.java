@@ -0,0 +1,22 @@
+package listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.driver.SessionCheckpoints;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+public class SessionCheckpointListener implements ISuiteListener {
+  private static final Logger logger = LogManager.getLogger(SessionCheckpointListener.class);
+
+  @Override
+  public void onStart(ISuite suite) {
+    SessionCheckpoints.clear();
+  }
+
+  @Override
+  public void onFinish(ISuite suite) {
+    logger.info("Session checkpoints for suite '{}': {}", suite.getName(), SessionCheckpoints.getStats());
+    SessionCheckpoints.clear();
+  }
+}
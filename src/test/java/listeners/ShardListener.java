@@ -0,0 +1,124 @@
+package listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import sharding.ShardPlanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps only the classes of one shard when {@code -Dtest.shard.count} and {@code -Dtest.shard.index} are set.
+ * Classes are balanced across shards by the durations recorded in {@link TestDurations}. Only classes listed in the
+ * suite are planned, so a sharded run fails if a compiled test class is missing from every suite.
+ */
+public class ShardListener implements IAlterSuiteListener {
+  private static final Logger logger = LogManager.getLogger(ShardListener.class);
+
+  @Override
+  public void alter(List<XmlSuite> suites) {
+    Integer shardCount = Integer.getInteger("test.shard.count");
+    if (shardCount == null || shardCount <= 1) {
+      return;
+    }
+    int shardIndex = Integer.getInteger("test.shard.index", 0);
+    if (shardIndex < 0 || shardIndex >= shardCount) {
+      throw new IllegalArgumentException("Shard index " + shardIndex + " is outside 0.." + (shardCount - 1));
+    }
+    checkEveryTestClassIsListed(suites);
+    TestDurations durations = DurationSchedulerListener.getDurations();
+    for (XmlSuite suite : suites) {
+      Map<String, Long> classMillis = new LinkedHashMap<>();
+      for (XmlTest test : suite.getTests()) {
+        for (XmlClass xmlClass : test.getXmlClasses()) {
+          classMillis.merge(xmlClass.getName(), durations.getClassMillis(xmlClass.getSupportClass()), Long::sum);
+        }
+      }
+      List<ShardPlanner.Shard> plan = ShardPlanner.plan(classMillis, shardCount);
+      plan.forEach(shard -> logger.info("Suite '{}' {}", suite.getName(), shard));
+      Set<String> selected = Set.copyOf(plan.get(shardIndex).getClassNames());
+
+      List<XmlTest> remaining = new ArrayList<>();
+      for (XmlTest test : suite.getTests()) {
+        List<XmlClass> classes = test.getXmlClasses().stream()
+            .filter(xmlClass -> selected.contains(xmlClass.getName()))
+            .collect(Collectors.toList());
+        test.setXmlClasses(classes);
+        if (!classes.isEmpty()) {
+          remaining.add(test);
+        }
+      }
+      suite.getTests().retainAll(remaining);
+      suite.setName(suite.getName() + " [shard " + shardIndex + "/" + shardCount + "]");
+      logger.info("Running shard {} of {} with classes {}", shardIndex, shardCount, selected);
+    }
+  }
+
+  private static void checkEveryTestClassIsListed(List<XmlSuite> suites) {
+    Set<String> listed = new HashSet<>();
+    suites.forEach(suite -> suite.getTests().forEach(test ->
+        test.getXmlClasses().forEach(xmlClass -> listed.add(xmlClass.getName()))));
+    Set<String> unlisted = new TreeSet<>(discoverTestClasses());
+    unlisted.removeAll(listed);
+    if (!unlisted.isEmpty()) {
+      throw new IllegalStateException("Test classes " + unlisted + " are not in any suite, so no shard would run them."
+          + " Add them to testng.xml.");
+    }
+  }
+
+  // Concrete classes with @Test methods, compiled to the same directory as this listener.
+  static Set<String> discoverTestClasses() {
+    Path root;
+    try {
+      root = Paths.get(ShardListener.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    } catch (URISyntaxException e) {
+      throw new IllegalStateException("Cannot locate the test classes.", e);
+    }
+    if (!Files.isDirectory(root)) {
+      return Set.of();
+    }
+    try (Stream<Path> files = Files.walk(root)) {
+      return files
+          .filter(file -> file.toString().endsWith(".class") && !file.getFileName().toString().contains("$"))
+          .map(file -> root.relativize(file).toString().replace(File.separatorChar, '.').replaceAll("\\.class$", ""))
+          .filter(ShardListener::declaresTests)
+          .collect(Collectors.toCollection(TreeSet::new));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to list test classes in " + root, e);
+    }
+  }
+
+  private static boolean declaresTests(String className) {
+    try {
+      Class<?> testClass = Class.forName(className, false, ShardListener.class.getClassLoader());
+      if (Modifier.isAbstract(testClass.getModifiers())) {
+        return false;
+      }
+      return testClass.isAnnotationPresent(Test.class)
+          || Arrays.stream(testClass.getMethods()).anyMatch(method -> method.isAnnotationPresent(Test.class));
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+}
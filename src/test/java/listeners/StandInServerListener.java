@@ -0,0 +1,43 @@
+package listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import standin.SauceDemoStandInServer;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class StandInServerListener implements IAlterSuiteListener {
+  private static final Logger logger = LogManager.getLogger(StandInServerListener.class);
+
+  @Override
+  public void alter(List<XmlSuite> suites) {
+    if (!Boolean.getBoolean("saucedemo.standin")) {
+      return;
+    }
+    String localBaseUrl = SauceDemoStandInServer.startShared().getBaseUrl();
+    for (XmlSuite suite : suites) {
+      String remoteBaseUrl = suite.getParameter("baseUrl");
+      if (remoteBaseUrl == null) {
+        continue;
+      }
+      logger.info("Redirecting suite '{}' from {} to {}", suite.getName(), remoteBaseUrl, localBaseUrl);
+      suite.setParameters(rewrite(suite.getParameters(), remoteBaseUrl, localBaseUrl));
+      for (XmlTest test : suite.getTests()) {
+        test.setParameters(rewrite(test.getLocalParameters(), remoteBaseUrl, localBaseUrl));
+      }
+    }
+  }
+
+  private static Map<String, String> rewrite(Map<String, String> original, String remoteBaseUrl, String localBaseUrl) {
+    Map<String, String> parameters = new LinkedHashMap<>(original);
+    parameters.replaceAll((name, value) -> value != null && value.startsWith(remoteBaseUrl)
+        ? localBaseUrl + value.substring(remoteBaseUrl.length())
+        : value);
+    return parameters;
+  }
+}
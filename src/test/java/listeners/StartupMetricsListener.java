@@ -0,0 +1,16 @@
+package listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.metrics.StartupMetrics;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+public class StartupMetricsListener implements ISuiteListener {
+  private static final Logger logger = LogManager.getLogger(StartupMetricsListener.class);
+
+  @Override
+  public void onFinish(ISuite suite) {
+    logger.info("Browser startup for suite '{}': {}", suite.getName(), StartupMetrics.getStats());
+  }
+}
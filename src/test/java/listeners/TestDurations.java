@@ -0,0 +1,160 @@
+package listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.testng.ITestNGMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Durations and outcomes of test methods from previous runs, kept in {@code test.durations.file}
+ * (default {@code test-durations.json}). New measurements are blended with the stored ones so a single slow run
+ * does not reorder the whole suite.
+ */
+public class TestDurations {
+  private static final Logger logger = LogManager.getLogger(TestDurations.class);
+
+  private static final long DEFAULT_MILLIS = 1_000;
+  private static final double NEW_SAMPLE_WEIGHT = 0.5;
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final Set<String> updatedKeys = ConcurrentHashMap.newKeySet();
+
+  private TestDurations() {
+  }
+
+  public static Path defaultFile() {
+    return Paths.get(System.getProperty("test.durations.file", "test-durations.json"));
+  }
+
+  /**
+   * Where a run saves its durations. Shards write to their own file so every shard plans from the same input.
+   */
+  public static Path outputFile() {
+    String output = System.getProperty("test.durations.output");
+    return output != null ? Paths.get(output) : defaultFile();
+  }
+
+  public static TestDurations load(Path file) {
+    TestDurations durations = new TestDurations();
+    if (!Files.isRegularFile(file)) {
+      return durations;
+    }
+    try {
+      Map<String, Object> stored = new Json().toType(Files.readString(file, StandardCharsets.UTF_8), Json.MAP_TYPE);
+      stored.forEach((key, value) -> {
+        Map<?, ?> entry = (Map<?, ?>) value;
+        durations.entries.put(key, new Entry(
+            ((Number) entry.get("millis")).longValue(), Boolean.TRUE.equals(entry.get("failed"))));
+      });
+    } catch (IOException | JsonException | ClassCastException e) {
+      logger.warn("Ignoring unreadable test durations file {}: {}", file, e.getMessage());
+      durations.entries.clear();
+    }
+    return durations;
+  }
+
+  public static String key(ITestNGMethod method) {
+    return method.getRealClass().getSimpleName() + "." + method.getMethodName();
+  }
+
+  /**
+   * Stored duration, or the median of all stored durations for methods that have not run yet.
+   */
+  public long getMillis(String key) {
+    Entry entry = entries.get(key);
+    return entry != null ? entry.millis() : getMedianMillis();
+  }
+
+  /**
+   * Sum of the expected durations of the {@code @Test} methods declared by the class.
+   */
+  public long getClassMillis(Class<?> testClass) {
+    long total = 0;
+    for (Method method : testClass.getMethods()) {
+      if (method.isAnnotationPresent(Test.class)) {
+        total += getMillis(testClass.getSimpleName() + "." + method.getName());
+      }
+    }
+    return total;
+  }
+
+  public boolean failedLastRun(String key) {
+    Entry entry = entries.get(key);
+    return entry != null && entry.failed();
+  }
+
+  public void update(String key, long millis, boolean failed) {
+    entries.compute(key, (name, previous) -> new Entry(
+        previous == null ? millis : Math.round(NEW_SAMPLE_WEIGHT * millis + (1 - NEW_SAMPLE_WEIGHT) * previous.millis()),
+        failed));
+    updatedKeys.add(key);
+  }
+
+  /**
+   * Writes the entries updated in this JVM over the current file contents, so shards running in parallel JVMs
+   * do not drop each other's results.
+   */
+  public synchronized void saveTo(Path target) {
+    Path lockFile = target.resolveSibling(target.getFileName() + ".lock");
+    try {
+      if (target.getParent() != null) {
+        Files.createDirectories(target.getParent());
+      }
+      try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+        FileLock lock = channel.lock();
+        try {
+          Map<String, Entry> merged = new TreeMap<>(load(target).entries);
+          updatedKeys.forEach(key -> merged.put(key, entries.get(key)));
+          Map<String, Object> json = new TreeMap<>();
+          merged.forEach((key, entry) -> json.put(key, Map.of("millis", entry.millis(), "failed", entry.failed())));
+          Files.writeString(target, new Json().toJson(json), StandardCharsets.UTF_8);
+        } finally {
+          lock.release();
+        }
+      }
+    } catch (IOException e) {
+      logger.warn("Failed to save test durations to {}: {}", target, e.getMessage());
+    }
+  }
+
+  /**
+   * Copies every entry of {@code source}, e.g. the output of one shard, over the entries of {@code target}.
+   */
+  public static void mergeInto(Path target, Path source) {
+    TestDurations shard = load(source);
+    shard.updatedKeys.addAll(shard.entries.keySet());
+    shard.saveTo(target);
+  }
+
+  private long getMedianMillis() {
+    List<Long> values = new ArrayList<>();
+    entries.values().forEach(entry -> values.add(entry.millis()));
+    if (values.isEmpty()) {
+      return DEFAULT_MILLIS;
+    }
+    Collections.sort(values);
+    return values.get(values.size() / 2);
+  }
+
+  private record Entry(long millis, boolean failed) {
+  }
+}
@@ -3,22 +3,35 @@ package listeners;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.example.metrics.CommandMetrics;
+import org.example.metrics.WaitMetrics;
+import org.example.utils.LoggingCallCounter;
+import org.example.utils.ScreenshotWriter;
+import org.example.utils.TestLogBuffer;
+import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.TestListenerAdapter;
 
+import java.util.List;
+
 public class TestLoggerListener extends TestListenerAdapter {
   private static final Logger logger = LogManager.getLogger(TestLoggerListener.class);
+  private static final Logger dumpLogger = LogManager.getLogger("TestLogDump");
 
 
   @Override
   public void onTestStart(ITestResult result) {
     logger.info("------------------------------------------------------------------------");
     logger.info("Starting test: {}", result.getMethod().getMethodName());
+    LoggingCallCounter.reset();
   }
 
   @Override
   public void onTestSuccess(ITestResult result) {
     logger.info("Test passed: {}", result.getMethod().getMethodName());
+    logRemoteCallsFromLogging(result);
+    logCommandLatency(result, "PASSED");
+    TestLogBuffer.clear();
     logger.info("------------------------------------------------------------------------");
   }
 
@@ -29,12 +42,64 @@ public class TestLoggerListener extends TestListenerAdapter {
     if (throwable != null) {
       logger.error("Failure reason: ", throwable);
     }
+    logRemoteCallsFromLogging(result);
+    logCommandLatency(result, "FAILED");
+    dumpBufferedLog(result, "FAILED");
     logger.info("------------------------------------------------------------------------");
   }
 
   @Override
   public void onTestSkipped(ITestResult result) {
     logger.warn("Test skipped: {}", result.getMethod().getMethodName());
+    logRemoteCallsFromLogging(result);
+    logCommandLatency(result, "SKIPPED");
+    dumpBufferedLog(result, "SKIPPED");
     logger.info("------------------------------------------------------------------------");
   }
+
+  @Override
+  public void onFinish(ITestContext context) {
+    if (!ScreenshotWriter.isInitialized()) {
+      return;
+    }
+    ScreenshotWriter writer = ScreenshotWriter.getInstance();
+    if (!writer.awaitIdle(10_000)) {
+      logger.warn("Screenshot writer still busy at the end of '{}'.", context.getName());
+    }
+    logger.info("Screenshot writer statistics for '{}': {}", context.getName(), writer.getStats());
+  }
+
+  private void dumpBufferedLog(ITestResult result, String status) {
+    TestLogBuffer.BufferedLog log = TestLogBuffer.drain();
+    if (log.lines().isEmpty()) {
+      return;
+    }
+    String testName = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+    dumpLogger.info("==== {} {} ({} debug lines, {} older lines dropped) ====",
+        status, testName, log.lines().size(), log.dropped());
+    log.lines().forEach(dumpLogger::info);
+    logger.info("Debug log of {} written to {}/failed-tests.log ({} lines).",
+        testName, System.getProperty("log.dir", "logs"), log.lines().size());
+  }
+
+  private void logCommandLatency(ITestResult result, String status) {
+    WaitMetrics.WaitStats waitStats = WaitMetrics.drain();
+    if (waitStats.getWaits() > 0) {
+      logger.info("Page waits in {}: {}", result.getMethod().getMethodName(), waitStats);
+    }
+    List<CommandMetrics.CommandStats> stats = CommandMetrics.drain();
+    if (stats.isEmpty()) {
+      return;
+    }
+    String testName = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+    long calls = stats.stream().mapToLong(CommandMetrics.CommandStats::count).sum();
+    long totalMicros = stats.stream().mapToLong(CommandMetrics.CommandStats::totalMicros).sum();
+    logger.info("WebDriver commands in {}: {} calls, {} ms", testName, calls, totalMicros / 1000);
+    stats.forEach(row -> logger.info("  {}", row));
+    CommandMetrics.writeReport(testName, status, stats);
+  }
+
+  private void logRemoteCallsFromLogging(ITestResult result) {
+    logger.info("Remote calls triggered by logging in {}: {}", result.getMethod().getMethodName(), LoggingCallCounter.get());
+  }
 }
@@ -0,0 +1,65 @@
+package sharding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits test classes into shards of similar expected duration (longest class first, each to the lightest shard).
+ * The plan only depends on its input, so every shard JVM computes the same split from the same durations file.
+ */
+public class ShardPlanner {
+
+  private ShardPlanner() {
+  }
+
+  public static List<Shard> plan(Map<String, Long> classMillis, int shardCount) {
+    if (shardCount <= 0) {
+      throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+    }
+    List<Shard> shards = new ArrayList<>(shardCount);
+    for (int i = 0; i < shardCount; i++) {
+      shards.add(new Shard(i));
+    }
+    classMillis.entrySet().stream()
+        .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+        .forEach(entry -> shards.stream()
+            .min(Comparator.comparingLong(Shard::getExpectedMillis).thenComparingInt(Shard::getIndex))
+            .orElseThrow()
+            .add(entry.getKey(), entry.getValue()));
+    return shards;
+  }
+
+  public static class Shard {
+    private final int index;
+    private final List<String> classNames = new ArrayList<>();
+    private long expectedMillis;
+
+    Shard(int index) {
+      this.index = index;
+    }
+
+    private void add(String className, long millis) {
+      classNames.add(className);
+      expectedMillis += millis;
+    }
+
+    public int getIndex() {
+      return index;
+    }
+
+    public List<String> getClassNames() {
+      return classNames;
+    }
+
+    public long getExpectedMillis() {
+      return expectedMillis;
+    }
+
+    @Override
+    public String toString() {
+      return "shard " + index + " (" + expectedMillis + " ms): " + classNames;
+    }
+  }
+}
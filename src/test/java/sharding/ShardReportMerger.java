@@ -0,0 +1,161 @@
+package sharding;
+
+import listeners.TestDurations;
+import org.openqa.selenium.json.Json;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Merges the reports of shard runs laid out as {@code <root>/shard-<i>/surefire-reports/testng-results.xml} and
+ * {@code <root>/shard-<i>/command-latency.jsonl} into {@code <root>/merged}, with a per-shard balance summary.
+ * Durations recorded by the shards in {@code <root>/shard-<i>/test-durations.json} are folded into
+ * {@code test.durations.file} for the next run's plan.
+ */
+public class ShardReportMerger {
+  private static final String[] COUNTERS = {"total", "passed", "failed", "skipped", "ignored"};
+
+  public static void main(String[] args) throws Exception {
+    Path root = Paths.get(args.length > 0 ? args[0] : "target/shards");
+    Map<String, Object> summary = merge(root);
+    System.out.println(new Json().toJson(summary));
+  }
+
+  public static Map<String, Object> merge(Path root) throws Exception {
+    List<Path> shardDirs;
+    try (Stream<Path> children = Files.list(root)) {
+      shardDirs = children
+          .filter(path -> Files.isDirectory(path) && path.getFileName().toString().startsWith("shard-"))
+          .sorted()
+          .collect(Collectors.toList());
+    }
+    if (shardDirs.isEmpty()) {
+      throw new IllegalStateException("No shard-* directories found in " + root.toAbsolutePath());
+    }
+    Path mergedDir = Files.createDirectories(root.resolve("merged"));
+
+    DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+    Document merged = builder.newDocument();
+    Element mergedRoot = merged.createElement("testng-results");
+    merged.appendChild(mergedRoot);
+    long[] totals = new long[COUNTERS.length];
+    List<Map<String, Object>> shards = new ArrayList<>();
+    List<String> latencyLines = new ArrayList<>();
+
+    for (Path shardDir : shardDirs) {
+      String shardName = shardDir.getFileName().toString();
+      Map<String, Object> shardSummary = new LinkedHashMap<>();
+      shardSummary.put("shard", shardName);
+
+      Path results = shardDir.resolve("surefire-reports").resolve("testng-results.xml");
+      if (Files.isRegularFile(results)) {
+        Element shardRoot = builder.parse(results.toFile()).getDocumentElement();
+        for (int i = 0; i < COUNTERS.length; i++) {
+          long value = parseLong(shardRoot.getAttribute(COUNTERS[i]));
+          totals[i] += value;
+          shardSummary.put(COUNTERS[i], value);
+        }
+        long durationMillis = 0;
+        NodeList suites = shardRoot.getElementsByTagName("suite");
+        for (int i = 0; i < suites.getLength(); i++) {
+          Element suite = (Element) suites.item(i);
+          durationMillis += parseLong(suite.getAttribute("duration-ms"));
+          mergedRoot.appendChild(merged.importNode(suite, true));
+        }
+        shardSummary.put("durationMillis", durationMillis);
+      } else {
+        shardSummary.put("missing", results.toString());
+      }
+
+      Path latency = shardDir.resolve("command-latency.jsonl");
+      if (Files.isRegularFile(latency)) {
+        for (String line : Files.readAllLines(latency, StandardCharsets.UTF_8)) {
+          if (!line.isBlank()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("shard", shardName);
+            entry.putAll(new Json().toType(line, Json.MAP_TYPE));
+            StringBuilder json = new StringBuilder();
+            new Json().newOutput(json).setPrettyPrint(false).write(entry);
+            latencyLines.add(json.toString());
+          }
+        }
+      }
+      Path durations = shardDir.resolve("test-durations.json");
+      if (Files.isRegularFile(durations)) {
+        TestDurations.mergeInto(TestDurations.defaultFile(), durations);
+      }
+      shards.add(shardSummary);
+    }
+
+    for (int i = 0; i < COUNTERS.length; i++) {
+      mergedRoot.setAttribute(COUNTERS[i], String.valueOf(totals[i]));
+    }
+    // testng-results.xml lists reporter output before the suites.
+    mergedRoot.insertBefore(merged.createElement("reporter-output"), mergedRoot.getFirstChild());
+    writeXml(merged, mergedDir.resolve("testng-results.xml"));
+    Files.write(mergedDir.resolve("command-latency.jsonl"), latencyLines, StandardCharsets.UTF_8);
+
+    Map<String, Object> summary = new LinkedHashMap<>();
+    for (int i = 0; i < COUNTERS.length; i++) {
+      summary.put(COUNTERS[i], totals[i]);
+    }
+    List<Long> durations = shards.stream()
+        .map(shard -> (Long) shard.getOrDefault("durationMillis", 0L))
+        .collect(Collectors.toList());
+    long makespan = durations.stream().mapToLong(Long::longValue).max().orElse(0);
+    double mean = durations.stream().mapToLong(Long::longValue).average().orElse(0);
+    summary.put("makespanMillis", makespan);
+    summary.put("imbalance", mean == 0 ? 1.0 : Math.round(makespan / mean * 100) / 100.0);
+    summary.put("shards", shards);
+    Files.writeString(mergedDir.resolve("shard-summary.json"), new Json().toJson(summary), StandardCharsets.UTF_8);
+    return summary;
+  }
+
+  private static long parseLong(String value) {
+    return value == null || value.isEmpty() ? 0 : Long.parseLong(value);
+  }
+
+  private static void writeXml(Document document, Path target) throws Exception {
+    removeWhitespace(document.getDocumentElement());
+    Transformer transformer = TransformerFactory.newInstance().newTransformer();
+    transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+    transformer.setOutputProperty(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
+    try {
+      transformer.transform(new DOMSource(document), new StreamResult(target.toFile()));
+    } catch (Exception e) {
+      throw new IOException("Failed to write " + target, e);
+    }
+  }
+
+  private static void removeWhitespace(Node node) {
+    NodeList children = node.getChildNodes();
+    for (int i = children.getLength() - 1; i >= 0; i--) {
+      Node child = children.item(i);
+      if (child.getNodeType() == Node.TEXT_NODE && child.getTextContent().isBlank()) {
+        node.removeChild(child);
+      } else if (child.getNodeType() == Node.ELEMENT_NODE) {
+        removeWhitespace(child);
+      }
+    }
+  }
+}
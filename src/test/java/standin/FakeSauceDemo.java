@@ -0,0 +1,450 @@
+package standin;
+
+import org.example.constants.BusinessSetting;
+import org.example.constants.InventoryCatalog;
+import org.example.constants.PageContent;
+import org.example.constants.SauceDemoUsers;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SauceDemo's pages and state machine for {@link FakeSauceDemoDriver}, following the stand-in app
+ * ({@code standin/app.js}): login with the SauceDemo users and errors, the inventory with sorting and add/remove
+ * buttons, the cart badge, the cart and the checkout steps with totals taxed at {@link BusinessSetting#TAX_BASIS_POINTS}.
+ * In-page changes (buttons, badge, errors, removed cart rows) update the existing elements like the real site does;
+ * navigation renders a new document, so elements of the previous page become stale.
+ */
+class FakeSauceDemo {
+  private static final BigDecimal TAX_RATE = BigDecimal.valueOf(BusinessSetting.TAX_BASIS_POINTS, 4);
+
+  private static final Map<String, Comparator<InventoryCatalog.CatalogItem>> SORTS = Map.of(
+      "az", Comparator.comparing(InventoryCatalog.CatalogItem::name),
+      "za", Comparator.comparing(InventoryCatalog.CatalogItem::name).reversed(),
+      "lohi", Comparator.comparing(InventoryCatalog.CatalogItem::price),
+      "hilo", Comparator.comparing(InventoryCatalog.CatalogItem::price).reversed());
+
+  private final FakeSauceDemoDriver driver;
+  private final Set<Integer> cart = new LinkedHashSet<>();
+  private String redirectError;
+
+  private Document document;
+  private Element cartContainer;
+
+  FakeSauceDemo(FakeSauceDemoDriver driver) {
+    this.driver = driver;
+  }
+
+  List<Integer> getCart() {
+    return new ArrayList<>(cart);
+  }
+
+  /**
+   * Renders the page for the path into a new document. Returns the path actually shown, which is the login page
+   * when a protected page is opened without a session.
+   */
+  String render(String path, Map<String, String> query) {
+    document = driver.newDocument();
+    cartContainer = null;
+    Element root = el("div", "id", "root");
+    document.appendChild(append(el("html"), append(el("body"), root)));
+
+    boolean loggedIn = driver.getSessionUser() != null;
+    switch (path) {
+      case "/inventory.html", "/inventory-item.html", "/cart.html", "/checkout-step-one.html",
+           "/checkout-step-two.html", "/checkout-complete.html" -> {
+        if (!loggedIn) {
+          redirectError = "Epic sadface: You can only access '" + path + "' when you are logged in.";
+          renderLogin(root);
+          return "/";
+        }
+      }
+      default -> {
+        renderLogin(root);
+        return path.equals("/index.html") ? path : "/";
+      }
+    }
+    switch (path) {
+      case "/inventory.html" -> renderInventory(root);
+      case "/inventory-item.html" -> renderItemDetail(root, query.get("id"));
+      case "/cart.html" -> renderCart(root);
+      case "/checkout-step-one.html" -> renderCheckoutStepOne(root);
+      case "/checkout-step-two.html" -> renderCheckoutStepTwo(root);
+      default -> renderCheckoutComplete(root);
+    }
+    return path;
+  }
+
+  Document getDocument() {
+    return document;
+  }
+
+  // Login
+
+  private void renderLogin(Element root) {
+    Element username = el("input", "class", "input_error form_input", "placeholder", "Username", "type", "text",
+        "id", "user-name", "name", "user-name", "data-test", "username", "value", "");
+    Element password = el("input", "class", "input_error form_input", "placeholder", "Password", "type", "password",
+        "id", "password", "name", "password", "data-test", "password", "value", "");
+    Element errorContainer = el("div", "class", "error-message-container");
+    Element loginButton = el("input", "type", "submit", "class", "submit-button btn_action", "data-test", "login-button",
+        "id", "login-button", "name", "login-button", "value", "Login");
+    append(root,
+        text(el("div", "class", "login_logo"), "Swag Labs"),
+        append(el("div", "class", "login_wrapper"),
+            append(el("form", "id", "login-form"), username, password, errorContainer, loginButton)));
+    if (redirectError != null) {
+      showError(errorContainer, redirectError);
+      redirectError = null;
+    }
+    driver.onClick(loginButton, () -> {
+      String error = validateLogin(username.getAttribute("value"), password.getAttribute("value"));
+      if (error != null) {
+        showError(errorContainer, error);
+        return;
+      }
+      driver.setSessionUser(username.getAttribute("value"));
+      driver.navigate("/inventory.html");
+    });
+  }
+
+  private static String validateLogin(String username, String password) {
+    if (username.isEmpty()) {
+      return PageContent.LoginPageContent.USERNAME_REQUIRED_ERROR;
+    }
+    if (password.isEmpty()) {
+      return PageContent.LoginPageContent.PASSWORD_REQUIRED_ERROR;
+    }
+    if (!SauceDemoUsers.ACCEPTED_USERNAMES.contains(username) || !SauceDemoUsers.PASSWORD.equals(password)) {
+      return PageContent.LoginPageContent.USERNAME_PASSWORD_MISMATCH_ERROR;
+    }
+    if (username.equals(SauceDemoUsers.LOCKED_OUT_USER)) {
+      return PageContent.LoginPageContent.USER_LOCKED_OUT_ERROR;
+    }
+    return null;
+  }
+
+  private void showError(Element container, String message) {
+    clear(container);
+    Element closeButton = append(el("button", "class", "error-button", "data-test", "error-button"),
+        append(el("svg", "viewBox", "0 0 10 10"), el("path", "d", "M1 1 L9 9 M9 1 L1 9")));
+    append(container, append(text(el("h3", "data-test", "error"), message), closeButton));
+    driver.onClick(closeButton, () -> clear(container));
+  }
+
+  // Header
+
+  private Element header(String title, Node... secondary) {
+    cartContainer = el("div", "id", "shopping_cart_container", "class", "shopping_cart_container");
+    append(cartContainer, el("a", "class", "shopping_cart_link", "data-test", "shopping-cart-link"));
+    driver.onClick(cartContainer, () -> driver.navigate("/cart.html"));
+    updateBadge();
+    return append(el("div", "class", "primary_header"),
+        append(el("div", "class", "header_container"),
+            text(el("div", "class", "app_logo"), "Swag Labs"),
+            cartContainer),
+        append(append(el("div", "class", "header_secondary_container"),
+            text(el("span", "class", "title", "data-test", "title"), title)), secondary));
+  }
+
+  private void updateBadge() {
+    if (cartContainer == null) {
+      return;
+    }
+    Element badge = null;
+    for (Node child = cartContainer.getFirstChild(); child != null; child = child.getNextSibling()) {
+      if (child instanceof Element element && "shopping_cart_badge".equals(element.getAttribute("class"))) {
+        badge = element;
+      }
+    }
+    if (cart.isEmpty()) {
+      if (badge != null) {
+        cartContainer.removeChild(badge);
+      }
+      return;
+    }
+    if (badge == null) {
+      badge = el("span", "class", "shopping_cart_badge", "data-test", "shopping-cart-badge");
+      cartContainer.appendChild(badge);
+    }
+    badge.setTextContent(String.valueOf(cart.size()));
+  }
+
+  private Element cartButton(InventoryCatalog.CatalogItem item) {
+    Element button = el("button", "data-item-id", String.valueOf(item.id()));
+    updateCartButton(button, item);
+    driver.onClick(button, () -> {
+      if (!cart.remove(item.id())) {
+        cart.add(item.id());
+      }
+      updateCartButton(button, item);
+      updateBadge();
+    });
+    return button;
+  }
+
+  private void updateCartButton(Element button, InventoryCatalog.CatalogItem item) {
+    boolean inCart = cart.contains(item.id());
+    button.setAttribute("class", "btn " + (inCart ? "btn_secondary" : "btn_primary") + " btn_small btn_inventory");
+    button.setAttribute("id", (inCart ? "remove-" : "add-to-cart-") + slug(item.name()));
+    button.setTextContent(inCart
+        ? PageContent.CommonContent.REMOVE_BUTTON_TEXT
+        : PageContent.CommonContent.ADD_TO_CART_BUTTON_TEXT);
+  }
+
+  // Inventory
+
+  private void renderInventory(Element root) {
+    Element sortSelect = el("select", "class", "product_sort_container", "data-test", "product-sort-container");
+    Element list = el("div", "class", "inventory_list");
+    String[][] options = {{"az", "Name (A to Z)"}, {"za", "Name (Z to A)"}, {"lohi", "Price (low to high)"},
+        {"hilo", "Price (high to low)"}};
+    for (String[] option : options) {
+      Element optionElement = text(el("option", "value", option[0]), option[1]);
+      sortSelect.appendChild(optionElement);
+      driver.onClick(optionElement, () -> {
+        for (Node child = sortSelect.getFirstChild(); child != null; child = child.getNextSibling()) {
+          ((Element) child).removeAttribute("selected");
+        }
+        optionElement.setAttribute("selected", "selected");
+        renderInventoryList(list, option[0]);
+      });
+    }
+    ((Element) sortSelect.getFirstChild()).setAttribute("selected", "selected");
+    append(root, header(PageContent.ProductPage.TITLE_PAGE, sortSelect),
+        append(el("div", "class", "inventory_container"), list));
+    renderInventoryList(list, "az");
+  }
+
+  private void renderInventoryList(Element list, String sort) {
+    clear(list);
+    InventoryCatalog.ITEMS.values().stream()
+        .sorted(SORTS.getOrDefault(sort, SORTS.get("az")))
+        .forEach(item -> list.appendChild(inventoryItem(item)));
+  }
+
+  private Element inventoryItem(InventoryCatalog.CatalogItem item) {
+    String link = "/inventory-item.html?id=" + item.id();
+    return append(el("div", "class", "inventory_item", "data-test", "inventory-item"),
+        append(el("div", "class", "inventory_item_img"),
+            append(el("a", "href", link, "id", "item_" + item.id() + "_img_link"),
+                el("img", "alt", item.name(), "src", imageSrc(item)))),
+        append(el("div", "class", "inventory_item_description"),
+            append(el("div", "class", "inventory_item_label"),
+                append(el("a", "href", link, "id", "item_" + item.id() + "_title_link"),
+                    text(el("div", "class", "inventory_item_name"), item.name())),
+                text(el("div", "class", "inventory_item_desc"), item.description())),
+            append(el("div", "class", "pricebar"),
+                text(el("div", "class", "inventory_item_price"), formatPrice(item.price().getCents())),
+                cartButton(item))));
+  }
+
+  private void renderItemDetail(Element root, String id) {
+    Element backButton = text(el("button", "class", "btn btn_secondary back btn_large inventory_details_back_button",
+        "id", "back-to-products", "data-test", "back-to-products"), "Back to products");
+    driver.onClick(backButton, () -> driver.navigate("/inventory.html"));
+    InventoryCatalog.CatalogItem item = parseId(id) == null ? null : InventoryCatalog.ITEMS.get(parseId(id));
+    Element details = el("div", "class", "inventory_details_desc_container");
+    Element image;
+    if (item != null) {
+      image = el("img", "class", "inventory_details_img", "alt", item.name(), "src", imageSrc(item));
+      append(details,
+          text(el("div", "class", "inventory_details_name large_size"), item.name()),
+          text(el("div", "class", "inventory_details_desc large_size"), item.description()),
+          text(el("div", "class", "inventory_details_price"), formatPrice(item.price().getCents())),
+          cartButton(item));
+    } else {
+      image = el("img", "class", "inventory_details_img", "alt", "ITEM NOT FOUND", "src", "/static/media/sl-404.jpg");
+      append(details,
+          text(el("div", "class", "inventory_details_name large_size"),
+              PageContent.ItemDetailPageContent.ITEM_NOT_FOUND_ERROR.toUpperCase()),
+          text(el("div", "class", "inventory_details_desc large_size"),
+              PageContent.ItemDetailPageContent.INVALID_ID_DESCRIPTION_ERROR),
+          text(el("div", "class", "inventory_details_price"), "$√-1"),
+          text(el("button", "class", "btn btn_primary btn_small btn_inventory", "id", "add-to-cart"),
+              PageContent.CommonContent.ADD_TO_CART_BUTTON_TEXT));
+    }
+    append(root, header("", backButton),
+        append(el("div", "class", "inventory_details"),
+            append(el("div", "class", "inventory_details_container"), image, details)));
+  }
+
+  // Cart and checkout
+
+  private Element cartList(boolean withRemoveButtons) {
+    Element list = append(el("div", "class", "cart_list"),
+        text(el("div", "class", "cart_quantity_label"), "QTY"),
+        text(el("div", "class", "cart_desc_label"), "Description"));
+    for (int id : cart) {
+      InventoryCatalog.CatalogItem item = InventoryCatalog.ITEMS.get(id);
+      Element priceBar = append(el("div", "class", "item_pricebar"),
+          text(el("div", "class", "inventory_item_price"), formatPrice(item.price().getCents())));
+      Element row = append(el("div", "class", "cart_item", "data-test", "inventory-item"),
+          text(el("div", "class", "cart_quantity"), "1"),
+          append(el("div", "class", "cart_item_label"),
+              append(el("a", "href", "/inventory-item.html?id=" + id, "id", "item_" + id + "_title_link"),
+                  text(el("div", "class", "inventory_item_name"), item.name())),
+              text(el("div", "class", "inventory_item_desc"), item.description()),
+              priceBar));
+      if (withRemoveButtons) {
+        Element removeButton = text(el("button", "class", "btn btn_secondary btn_small cart_button",
+            "id", "remove-" + slug(item.name())), PageContent.CommonContent.REMOVE_BUTTON_TEXT);
+        priceBar.appendChild(removeButton);
+        driver.onClick(removeButton, () -> {
+          cart.remove(id);
+          list.removeChild(row);
+          updateBadge();
+        });
+      }
+      list.appendChild(row);
+    }
+    return list;
+  }
+
+  private void renderCart(Element root) {
+    Element continueShopping = text(el("button", "class", "btn btn_secondary back btn_medium",
+        "id", "continue-shopping", "data-test", "continue-shopping"), "Continue Shopping");
+    Element checkout = text(el("button", "class", "btn btn_action btn_medium checkout_button",
+        "id", "checkout", "data-test", "checkout"), "Checkout");
+    driver.onClick(continueShopping, () -> driver.navigate("/inventory.html"));
+    driver.onClick(checkout, () -> driver.navigate("/checkout-step-one.html"));
+    append(root, header(PageContent.CartPageContent.TITLE_PAGE),
+        append(el("div", "class", "cart_contents_container"), cartList(true),
+            append(el("div", "class", "cart_footer"), continueShopping, checkout)));
+  }
+
+  private void renderCheckoutStepOne(Element root) {
+    Element firstName = input("first-name", "firstName", PageContent.CheckoutPageContent.FIRST_NAME);
+    Element lastName = input("last-name", "lastName", PageContent.CheckoutPageContent.LAST_NAME);
+    Element postalCode = input("postal-code", "postalCode", PageContent.CheckoutPageContent.POSTAL_CODE);
+    Element errorContainer = el("div", "class", "error-message-container");
+    Element cancel = text(el("button", "class", "btn btn_secondary back btn_medium cart_cancel_link", "id", "cancel",
+        "type", "button", "data-test", "cancel"), "Cancel");
+    Element continueButton = el("input", "type", "submit", "class", "submit-button btn btn_primary cart_button btn_action",
+        "id", "continue", "name", "continue", "data-test", "continue", "value", "Continue");
+    driver.onClick(cancel, () -> driver.navigate("/cart.html"));
+    driver.onClick(continueButton, () -> {
+      if (firstName.getAttribute("value").isEmpty()) {
+        showError(errorContainer, "Error: First Name is required");
+      } else if (lastName.getAttribute("value").isEmpty()) {
+        showError(errorContainer, "Error: Last Name is required");
+      } else if (postalCode.getAttribute("value").isEmpty()) {
+        showError(errorContainer, "Error: Postal Code is required");
+      } else {
+        driver.navigate("/checkout-step-two.html");
+      }
+    });
+    append(root, header(PageContent.CheckoutPageContent.TITLE_PAGE_ONE_STEP),
+        append(el("div", "class", "checkout_info_container"),
+            append(el("form", "id", "checkout-form"),
+                append(el("div", "class", "checkout_info"), firstName, lastName, postalCode, errorContainer),
+                append(el("div", "class", "checkout_buttons"), cancel, continueButton))));
+  }
+
+  private Element input(String id, String name, String placeholder) {
+    return el("input", "class", "input_error form_input", "placeholder", placeholder, "type", "text", "id", id,
+        "name", name, "data-test", name, "value", "");
+  }
+
+  private void renderCheckoutStepTwo(Element root) {
+    long itemTotalCents = cart.stream().mapToLong(id -> InventoryCatalog.ITEMS.get(id).price().getCents()).sum();
+    BigDecimal itemTotal = BigDecimal.valueOf(itemTotalCents, 2);
+    BigDecimal tax = itemTotal.multiply(TAX_RATE).setScale(2, RoundingMode.HALF_UP);
+    Element cancel = text(el("button", "class", "btn btn_secondary back btn_medium cart_cancel_link", "id", "cancel",
+        "data-test", "cancel"), "Cancel");
+    Element finish = text(el("button", "class", "btn btn_action btn_medium cart_button", "id", "finish",
+        "data-test", "finish"), "Finish");
+    driver.onClick(cancel, () -> driver.navigate("/inventory.html"));
+    driver.onClick(finish, () -> {
+      cart.clear();
+      driver.navigate("/checkout-complete.html");
+    });
+    append(root, header(PageContent.CheckoutPageContent.TITLE_PAGE_SECOND_STEP),
+        append(el("div", "class", "checkout_summary_container"), cartList(false),
+            append(el("div", "class", "summary_info"),
+                text(el("div", "class", "summary_info_label"), "Payment Information:"),
+                text(el("div", "class", "summary_value_label"), "SauceCard #31337"),
+                text(el("div", "class", "summary_info_label"), "Shipping Information:"),
+                text(el("div", "class", "summary_value_label"), "Free Pony Express Delivery!"),
+                text(el("div", "class", "summary_info_label"), "Price Total"),
+                text(el("div", "class", "summary_subtotal_label"), "Item total: " + formatPrice(itemTotal)),
+                text(el("div", "class", "summary_tax_label"), "Tax: " + formatPrice(tax)),
+                text(el("div", "class", "summary_info_label summary_total_label"), "Total: " + formatPrice(itemTotal.add(tax))),
+                append(el("div", "class", "cart_footer"), cancel, finish))));
+  }
+
+  private void renderCheckoutComplete(Element root) {
+    Element backHome = text(el("button", "class", "btn btn_primary btn_small", "id", "back-to-products",
+        "data-test", "back-to-products"), PageContent.CheckoutPageContent.BACK_TO_HOME_BUTTON);
+    driver.onClick(backHome, () -> driver.navigate("/inventory.html"));
+    append(root, header(PageContent.CheckoutPageContent.TITLE_PAGE_COMPLETE),
+        append(el("div", "class", "checkout_complete_container"),
+            el("img", "class", "pony_express", "alt", "Pony Express", "src", "/static/media/pony-express.png"),
+            text(el("h2", "class", "complete-header", "data-test", "complete-header"),
+                PageContent.CheckoutPageContent.COMPLETE_HEADER),
+            text(el("div", "class", "complete-text", "data-test", "complete-text"),
+                PageContent.CheckoutPageContent.COMPLETE_TEXT),
+            backHome));
+  }
+
+  // DOM helpers
+
+  private Element el(String tag, String... attributes) {
+    Element element = document.createElement(tag);
+    for (int i = 0; i + 1 < attributes.length; i += 2) {
+      element.setAttribute(attributes[i], attributes[i + 1]);
+    }
+    return element;
+  }
+
+  private Element text(Element element, String text) {
+    element.appendChild(document.createTextNode(text));
+    return element;
+  }
+
+  private static Element append(Element parent, Node... children) {
+    for (Node child : children) {
+      parent.appendChild(child);
+    }
+    return parent;
+  }
+
+  private static void clear(Element element) {
+    while (element.getFirstChild() != null) {
+      element.removeChild(element.getFirstChild());
+    }
+  }
+
+  private static String imageSrc(InventoryCatalog.CatalogItem item) {
+    return "/static/media/" + item.imageFile();
+  }
+
+  private static String formatPrice(long cents) {
+    return formatPrice(BigDecimal.valueOf(cents, 2));
+  }
+
+  private static String formatPrice(BigDecimal amount) {
+    return "$" + amount.setScale(2, RoundingMode.UNNECESSARY).toPlainString();
+  }
+
+  private static String slug(String name) {
+    return name.toLowerCase().replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+  }
+
+  private static Integer parseId(String id) {
+    try {
+      return id == null ? null : Integer.valueOf(id);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
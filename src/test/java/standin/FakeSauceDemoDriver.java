@@ -0,0 +1,528 @@
+package standin;
+
+import org.example.pages.LoginPage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.InvalidCookieDomainException;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.logging.Logs;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory {@link WebDriver} that models SauceDemo (see {@link FakeSauceDemo}), so page objects run unmodified
+ * without a browser. Locators are resolved with XPath over a DOM document; CSS selectors are limited to type, class,
+ * id and attribute selectors with descendant and child combinators. The driver does not run JavaScript, so pages take
+ * their element-based paths; {@code CartStorage} and other script-only helpers are not available.
+ */
+public class FakeSauceDemoDriver implements WebDriver {
+  public static final String BASE_URL = "https://www.saucedemo.com/";
+
+  private static final String BLANK_PAGE = "data:,";
+  private static final String WINDOW_HANDLE = "fake-sauce-demo";
+
+  private final FakeSauceDemo app = new FakeSauceDemo(this);
+  private final DocumentBuilder documentBuilder;
+  private final XPath xpath = XPathFactory.newInstance().newXPath();
+  private final Map<String, XPathExpression> compiledExpressions = new HashMap<>();
+  private final Map<Node, Runnable> clickHandlers = new IdentityHashMap<>();
+  private final Map<String, Cookie> cookies = new LinkedHashMap<>();
+  private final List<String> history = new ArrayList<>();
+  private int historyIndex = -1;
+
+  private String currentUrl = BLANK_PAGE;
+  private Document document;
+  private boolean closed;
+
+  public FakeSauceDemoDriver() {
+    try {
+      documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+    } catch (ParserConfigurationException e) {
+      throw new IllegalStateException("No DOM implementation available.", e);
+    }
+    document = newDocument();
+  }
+
+  /**
+   * Item ids in the cart, in the order they were added.
+   */
+  public List<Integer> getCartItemIds() {
+    return app.getCart();
+  }
+
+  @Override
+  public void get(String url) {
+    checkOpen();
+    load(resolve(url));
+    history.subList(historyIndex + 1, history.size()).clear();
+    history.add(currentUrl);
+    historyIndex = history.size() - 1;
+  }
+
+  @Override
+  public String getCurrentUrl() {
+    checkOpen();
+    return currentUrl;
+  }
+
+  @Override
+  public String getTitle() {
+    checkOpen();
+    return currentUrl.equals(BLANK_PAGE) ? "" : "Swag Labs";
+  }
+
+  @Override
+  public List<WebElement> findElements(By by) {
+    checkOpen();
+    return findElements(document, by);
+  }
+
+  @Override
+  public WebElement findElement(By by) {
+    checkOpen();
+    return findElement(document, by);
+  }
+
+  @Override
+  public String getPageSource() {
+    checkOpen();
+    try {
+      StringWriter source = new StringWriter();
+      javax.xml.transform.Transformer transformer = TransformerFactory.newInstance().newTransformer();
+      transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+      transformer.transform(new DOMSource(document), new StreamResult(source));
+      return source.toString();
+    } catch (TransformerException e) {
+      throw new IllegalStateException("Failed to serialize the page.", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+  }
+
+  @Override
+  public void quit() {
+    closed = true;
+  }
+
+  @Override
+  public Set<String> getWindowHandles() {
+    checkOpen();
+    return Set.of(WINDOW_HANDLE);
+  }
+
+  @Override
+  public String getWindowHandle() {
+    checkOpen();
+    return WINDOW_HANDLE;
+  }
+
+  @Override
+  public TargetLocator switchTo() {
+    throw new UnsupportedOperationException("Frames and windows are not modelled by the fake SauceDemo driver.");
+  }
+
+  @Override
+  public Navigation navigate() {
+    return new FakeNavigation();
+  }
+
+  @Override
+  public Options manage() {
+    return new FakeOptions();
+  }
+
+  // Used by FakeSauceDemo and FakeWebElement.
+
+  Document newDocument() {
+    return documentBuilder.newDocument();
+  }
+
+  void navigate(String url) {
+    get(url);
+  }
+
+  void onClick(Element element, Runnable handler) {
+    clickHandlers.put(element, handler);
+  }
+
+  String getSessionUser() {
+    Cookie cookie = cookies.get(LoginPage.SESSION_COOKIE_NAME);
+    return cookie != null ? cookie.getValue() : null;
+  }
+
+  void setSessionUser(String userName) {
+    cookies.put(LoginPage.SESSION_COOKIE_NAME, new Cookie(LoginPage.SESSION_COOKIE_NAME, userName, "/"));
+  }
+
+  boolean isAttached(Element element) {
+    Node node = element;
+    while (node.getParentNode() != null) {
+      node = node.getParentNode();
+    }
+    return node == document;
+  }
+
+  /**
+   * Runs the click handler of the element or its closest ancestor that has one, like an event bubbling up.
+   * Links without a handler navigate to their {@code href}.
+   */
+  void click(Element element) {
+    for (Node node = element; node instanceof Element current; node = node.getParentNode()) {
+      Runnable handler = clickHandlers.get(current);
+      if (handler != null) {
+        handler.run();
+        return;
+      }
+      if (current.getTagName().equals("a") && current.hasAttribute("href")) {
+        navigate(current.getAttribute("href"));
+        return;
+      }
+    }
+  }
+
+  String getOrigin() {
+    URI uri = URI.create(currentUrl.equals(BLANK_PAGE) ? BASE_URL : currentUrl);
+    return uri.getScheme() + "://" + uri.getRawAuthority();
+  }
+
+  List<WebElement> findElements(Node context, By by) {
+    NodeList nodes;
+    try {
+      nodes = (NodeList) compile(toXPath(by)).evaluate(context, XPathConstants.NODESET);
+    } catch (XPathExpressionException e) {
+      throw new InvalidSelectorException("Invalid selector " + by + ": " + e.getMessage());
+    }
+    List<WebElement> elements = new ArrayList<>(nodes.getLength());
+    for (int i = 0; i < nodes.getLength(); i++) {
+      if (nodes.item(i) instanceof Element element) {
+        elements.add(new FakeWebElement(this, element));
+      }
+    }
+    return elements;
+  }
+
+  WebElement findElement(Node context, By by) {
+    List<WebElement> elements = findElements(context, by);
+    if (elements.isEmpty()) {
+      throw new NoSuchElementException("Unable to locate element: " + by + " on " + currentUrl);
+    }
+    return elements.get(0);
+  }
+
+  void checkOpen() {
+    if (closed) {
+      throw new NoSuchSessionException("The fake SauceDemo session has been closed.");
+    }
+  }
+
+  private void load(URI uri) {
+    clickHandlers.clear();
+    if (!"http".equals(uri.getScheme()) && !"https".equals(uri.getScheme())) {
+      currentUrl = BLANK_PAGE;
+      document = newDocument();
+      return;
+    }
+    String origin = uri.getScheme() + "://" + uri.getRawAuthority();
+    String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+    Map<String, String> query = parseQuery(uri.getRawQuery());
+    // Set the URL first so handlers see the origin of the page they render.
+    currentUrl = origin + path;
+    String shownPath = app.render(path, query);
+    document = app.getDocument();
+    currentUrl = origin + shownPath + (shownPath.equals(path) && uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "");
+  }
+
+  private URI resolve(String url) {
+    URI uri = URI.create(url);
+    return uri.isAbsolute() ? uri : URI.create(getOrigin() + "/").resolve(uri);
+  }
+
+  private static Map<String, String> parseQuery(String rawQuery) {
+    Map<String, String> query = new HashMap<>();
+    if (rawQuery == null) {
+      return query;
+    }
+    for (String pair : rawQuery.split("&")) {
+      int separator = pair.indexOf('=');
+      String key = separator < 0 ? pair : pair.substring(0, separator);
+      String value = separator < 0 ? "" : pair.substring(separator + 1);
+      query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+    }
+    return query;
+  }
+
+  private XPathExpression compile(String expression) throws XPathExpressionException {
+    XPathExpression compiled = compiledExpressions.get(expression);
+    if (compiled == null) {
+      compiled = xpath.compile(expression);
+      compiledExpressions.put(expression, compiled);
+    }
+    return compiled;
+  }
+
+  static String toXPath(By by) {
+    if (!(by instanceof By.Remotable remotable)) {
+      throw new InvalidSelectorException("Unsupported locator: " + by);
+    }
+    By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+    String value = String.valueOf(parameters.value());
+    return switch (parameters.using()) {
+      case "id" -> ".//*[@id=" + literal(value) + "]";
+      case "name" -> ".//*[@name=" + literal(value) + "]";
+      case "class name" -> ".//*[" + hasClass(value) + "]";
+      case "tag name" -> ".//" + value.toLowerCase();
+      case "link text" -> ".//a[normalize-space(.)=" + literal(value) + "]";
+      case "partial link text" -> ".//a[contains(normalize-space(.), " + literal(value) + ")]";
+      case "xpath" -> value;
+      case "css selector" -> cssToXPath(value);
+      default -> throw new InvalidSelectorException("Unsupported locator strategy: " + parameters.using());
+    };
+  }
+
+  /**
+   * Translates simple CSS selectors: {@code tag}, {@code *}, {@code .class}, {@code #id}, {@code [attr]},
+   * {@code [attr=value]} (also {@code ~= ^= $= *=}), descendant and {@code >} combinators, and selector lists.
+   */
+  static String cssToXPath(String css) {
+    List<String> alternatives = new ArrayList<>();
+    for (String selector : css.split(",")) {
+      alternatives.add(cssSelectorToXPath(selector.trim(), css));
+    }
+    return String.join(" | ", alternatives);
+  }
+
+  private static String cssSelectorToXPath(String selector, String css) {
+    StringBuilder xpath = new StringBuilder(".");
+    String combinator = "//";
+    int i = 0;
+    while (i < selector.length()) {
+      char c = selector.charAt(i);
+      if (Character.isWhitespace(c)) {
+        i++;
+        continue;
+      }
+      if (c == '>') {
+        combinator = "/";
+        i++;
+        continue;
+      }
+      StringBuilder step = new StringBuilder();
+      if (c == '*') {
+        step.append('*');
+        i++;
+      } else if (isIdentifierChar(c)) {
+        int end = identifierEnd(selector, i);
+        step.append(unescape(selector.substring(i, end)).toLowerCase());
+        i = end;
+      } else {
+        step.append('*');
+      }
+      while (i < selector.length() && !Character.isWhitespace(selector.charAt(i)) && selector.charAt(i) != '>') {
+        char marker = selector.charAt(i);
+        if (marker == '.' || marker == '#') {
+          int end = identifierEnd(selector, i + 1);
+          String name = unescape(selector.substring(i + 1, end));
+          step.append('[').append(marker == '.' ? hasClass(name) : "@id=" + literal(name)).append(']');
+          i = end;
+        } else if (marker == '[') {
+          int end = selector.indexOf(']', i);
+          if (end < 0) {
+            throw new InvalidSelectorException("Unterminated attribute selector in " + css);
+          }
+          step.append('[').append(attributePredicate(selector.substring(i + 1, end).trim(), css)).append(']');
+          i = end + 1;
+        } else {
+          throw new InvalidSelectorException("Unsupported CSS selector for the fake SauceDemo driver: " + css);
+        }
+      }
+      xpath.append(combinator).append(step);
+      combinator = "//";
+    }
+    return xpath.toString();
+  }
+
+  private static String attributePredicate(String expression, String css) {
+    int operator = -1;
+    for (int i = 0; i < expression.length(); i++) {
+      if (expression.charAt(i) == '=') {
+        operator = i;
+        break;
+      }
+    }
+    if (operator < 0) {
+      return "@" + expression;
+    }
+    char modifier = operator > 0 ? expression.charAt(operator - 1) : ' ';
+    boolean hasModifier = "~^$*|".indexOf(modifier) >= 0;
+    String attribute = "@" + expression.substring(0, hasModifier ? operator - 1 : operator).trim();
+    String value = expression.substring(operator + 1).trim();
+    if (value.length() >= 2 && (value.charAt(0) == '"' || value.charAt(0) == '\'')) {
+      value = value.substring(1, value.length() - 1);
+    }
+    String literal = literal(unescape(value));
+    if (!hasModifier) {
+      return attribute + "=" + literal;
+    }
+    return switch (modifier) {
+      case '~' -> "contains(concat(' ', normalize-space(" + attribute + "), ' '), concat(' ', " + literal + ", ' '))";
+      case '^' -> "starts-with(" + attribute + ", " + literal + ")";
+      case '$' -> "substring(" + attribute + ", string-length(" + attribute + ") - string-length(" + literal + ") + 1)="
+          + literal;
+      case '*' -> "contains(" + attribute + ", " + literal + ")";
+      default -> throw new InvalidSelectorException("Unsupported attribute operator in " + css);
+    };
+  }
+
+  private static String hasClass(String className) {
+    return "contains(concat(' ', normalize-space(@class), ' '), " + literal(" " + className + " ") + ")";
+  }
+
+  private static boolean isIdentifierChar(char c) {
+    return Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '\\';
+  }
+
+  private static int identifierEnd(String selector, int start) {
+    int i = start;
+    while (i < selector.length() && isIdentifierChar(selector.charAt(i))) {
+      i += selector.charAt(i) == '\\' ? 2 : 1;
+    }
+    return Math.min(i, selector.length());
+  }
+
+  private static String unescape(String value) {
+    return value.replaceAll("\\\\(.)", "$1");
+  }
+
+  private static String literal(String value) {
+    if (!value.contains("'")) {
+      return "'" + value + "'";
+    }
+    if (!value.contains("\"")) {
+      return "\"" + value + "\"";
+    }
+    return "concat('" + value.replace("'", "', \"'\", '") + "')";
+  }
+
+  private class FakeNavigation implements Navigation {
+
+    @Override
+    public void back() {
+      checkOpen();
+      if (historyIndex > 0) {
+        load(URI.create(history.get(--historyIndex)));
+      }
+    }
+
+    @Override
+    public void forward() {
+      checkOpen();
+      if (historyIndex < history.size() - 1) {
+        load(URI.create(history.get(++historyIndex)));
+      }
+    }
+
+    @Override
+    public void to(String url) {
+      get(url);
+    }
+
+    @Override
+    public void to(URL url) {
+      get(url.toString());
+    }
+
+    @Override
+    public void refresh() {
+      checkOpen();
+      load(URI.create(currentUrl.equals(BLANK_PAGE) ? BLANK_PAGE : currentUrl));
+    }
+  }
+
+  private class FakeOptions implements Options {
+
+    @Override
+    public void addCookie(Cookie cookie) {
+      checkOpen();
+      if (currentUrl.equals(BLANK_PAGE)) {
+        throw new InvalidCookieDomainException("Cookies can only be set on a SauceDemo page, not " + currentUrl);
+      }
+      cookies.put(cookie.getName(), cookie);
+    }
+
+    @Override
+    public void deleteCookieNamed(String name) {
+      cookies.remove(name);
+    }
+
+    @Override
+    public void deleteCookie(Cookie cookie) {
+      cookies.remove(cookie.getName());
+    }
+
+    @Override
+    public void deleteAllCookies() {
+      cookies.clear();
+    }
+
+    @Override
+    public Set<Cookie> getCookies() {
+      return new LinkedHashSet<>(cookies.values());
+    }
+
+    @Override
+    public Cookie getCookieNamed(String name) {
+      return cookies.get(name);
+    }
+
+    @Override
+    public Timeouts timeouts() {
+      throw new UnsupportedOperationException("Timeouts are not modelled by the fake SauceDemo driver.");
+    }
+
+    @Override
+    public Window window() {
+      throw new UnsupportedOperationException("Windows are not modelled by the fake SauceDemo driver.");
+    }
+
+    @Override
+    public Logs logs() {
+      throw new UnsupportedOperationException("Logs are not modelled by the fake SauceDemo driver.");
+    }
+  }
+}
@@ -0,0 +1,194 @@
+package standin;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A DOM element of {@link FakeSauceDemoDriver}. Every element counts as displayed and enabled, and has no layout.
+ */
+class FakeWebElement implements WebElement {
+  private static final Set<String> BLOCK_TAGS = Set.of("div", "p", "h1", "h2", "h3", "h4", "form", "li", "ul",
+      "br", "button", "header", "footer");
+  private static final Set<String> URL_ATTRIBUTES = Set.of("src", "href");
+
+  private final FakeSauceDemoDriver driver;
+  private final Element element;
+
+  FakeWebElement(FakeSauceDemoDriver driver, Element element) {
+    this.driver = driver;
+    this.element = element;
+  }
+
+  @Override
+  public void click() {
+    driver.click(attached());
+  }
+
+  @Override
+  public void submit() {
+    for (Node node = attached(); node instanceof Element current; node = node.getParentNode()) {
+      if (current.getTagName().equals("form")) {
+        driver.findElement(current, By.cssSelector("input[type='submit']")).click();
+        return;
+      }
+    }
+  }
+
+  @Override
+  public void sendKeys(CharSequence... keysToSend) {
+    StringBuilder value = new StringBuilder(attached().getAttribute("value"));
+    for (CharSequence keys : keysToSend) {
+      // Keys constants live in the Unicode private use area; the pages only send them as shortcuts.
+      keys.chars().filter(c -> c < '\uE000' || c > '\uF8FF').forEach(c -> value.append((char) c));
+    }
+    element.setAttribute("value", value.toString());
+  }
+
+  @Override
+  public void clear() {
+    attached().setAttribute("value", "");
+  }
+
+  @Override
+  public String getTagName() {
+    return attached().getTagName();
+  }
+
+  @Override
+  public String getDomProperty(String name) {
+    return getAttribute(name);
+  }
+
+  @Override
+  public String getDomAttribute(String name) {
+    return attached().hasAttribute(name) ? element.getAttribute(name) : null;
+  }
+
+  @Override
+  public String getAttribute(String name) {
+    attached();
+    if (name.equals("value") && (element.getTagName().equals("input") || element.getTagName().equals("select"))) {
+      return element.getAttribute("value");
+    }
+    if (!element.hasAttribute(name)) {
+      return null;
+    }
+    String value = element.getAttribute(name);
+    return URL_ATTRIBUTES.contains(name) && value.startsWith("/") ? driver.getOrigin() + value : value;
+  }
+
+  @Override
+  public boolean isSelected() {
+    return attached().hasAttribute("selected");
+  }
+
+  @Override
+  public boolean isEnabled() {
+    attached();
+    return true;
+  }
+
+  @Override
+  public boolean isDisplayed() {
+    attached();
+    return true;
+  }
+
+  @Override
+  public String getText() {
+    StringBuilder text = new StringBuilder();
+    appendText(attached(), text);
+    return text.toString().replaceAll("[ \\t]+", " ").replaceAll(" ?\\n ?", "\n").replaceAll("\\n+", "\n").trim();
+  }
+
+  @Override
+  public List<WebElement> findElements(By by) {
+    return driver.findElements(attached(), by);
+  }
+
+  @Override
+  public WebElement findElement(By by) {
+    return driver.findElement(attached(), by);
+  }
+
+  @Override
+  public Point getLocation() {
+    attached();
+    return new Point(0, 0);
+  }
+
+  @Override
+  public Dimension getSize() {
+    attached();
+    return new Dimension(0, 0);
+  }
+
+  @Override
+  public Rectangle getRect() {
+    return new Rectangle(getLocation(), getSize());
+  }
+
+  @Override
+  public String getCssValue(String propertyName) {
+    attached();
+    return "";
+  }
+
+  @Override
+  public <X> X getScreenshotAs(OutputType<X> target) {
+    throw new UnsupportedOperationException("The fake SauceDemo driver does not render pages.");
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof FakeWebElement fake && fake.element == element;
+  }
+
+  @Override
+  public int hashCode() {
+    return System.identityHashCode(element);
+  }
+
+  @Override
+  public String toString() {
+    return "FakeWebElement <" + element.getTagName() + " class=\"" + element.getAttribute("class") + "\">";
+  }
+
+  private Element attached() {
+    driver.checkOpen();
+    if (!driver.isAttached(element)) {
+      throw new StaleElementReferenceException("Element <" + element.getTagName() + "> is no longer attached to the page.");
+    }
+    return element;
+  }
+
+  private static void appendText(Node node, StringBuilder text) {
+    if (node.getNodeType() == Node.TEXT_NODE) {
+      text.append(node.getNodeValue().replaceAll("\\s+", " "));
+      return;
+    }
+    if (!(node instanceof Element current) || current.getTagName().equals("svg") || current.getTagName().equals("select")) {
+      return;
+    }
+    boolean block = BLOCK_TAGS.contains(current.getTagName());
+    if (block) {
+      text.append('\n');
+    }
+    for (Node child = current.getFirstChild(); child != null; child = child.getNextSibling()) {
+      appendText(child, text);
+    }
+    if (block) {
+      text.append('\n');
+    }
+  }
+}
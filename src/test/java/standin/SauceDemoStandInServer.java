@@ -0,0 +1,171 @@
+package standin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.constants.BusinessSetting;
+import org.example.constants.InventoryCatalog;
+import org.example.constants.PageContent;
+import org.example.constants.SauceDemoUsers;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Local replica of the SauceDemo pages used by the suite, served from the test classpath.
+ * All pages share one HTML shell; {@code standin/app.js} renders the page for the requested path
+ * and keeps the cart in the same {@code cart-contents} localStorage entry as the real site.
+ */
+public class SauceDemoStandInServer {
+  private static final Logger logger = LogManager.getLogger(SauceDemoStandInServer.class);
+
+  private static final Set<String> PAGES = Set.of(
+      "/", "/index.html", "/inventory.html", "/inventory-item.html", "/cart.html",
+      "/checkout-step-one.html", "/checkout-step-two.html", "/checkout-complete.html");
+
+  private static final String PLACEHOLDER_IMAGE =
+      "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"120\" height=\"150\">"
+          + "<rect width=\"120\" height=\"150\" fill=\"#e2e2e2\"/></svg>";
+
+  private static SauceDemoStandInServer shared;
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final byte[] shellHtml;
+  private final byte[] appJs;
+  private final byte[] appCss;
+
+  public SauceDemoStandInServer(int port) throws IOException {
+    this.shellHtml = readResource("standin/index.html")
+        .replace("/*CONFIG*/", new Json().toJson(buildConfig()))
+        .getBytes(StandardCharsets.UTF_8);
+    this.appJs = readResource("standin/app.js").getBytes(StandardCharsets.UTF_8);
+    this.appCss = readResource("standin/app.css").getBytes(StandardCharsets.UTF_8);
+    this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+    this.executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()), runnable -> {
+      Thread thread = new Thread(runnable, "standin-http");
+      thread.setDaemon(true);
+      return thread;
+    });
+    server.setExecutor(executor);
+    server.createContext("/", this::handle);
+  }
+
+  public static synchronized SauceDemoStandInServer startShared() {
+    if (shared == null) {
+      try {
+        shared = new SauceDemoStandInServer(Integer.getInteger("saucedemo.standin.port", 0));
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to start SauceDemo stand-in server.", e);
+      }
+      shared.start();
+      Runtime.getRuntime().addShutdownHook(new Thread(shared::stop, "standin-shutdown"));
+    }
+    return shared;
+  }
+
+  public void start() {
+    server.start();
+    logger.info("SauceDemo stand-in server started at {}", getBaseUrl());
+  }
+
+  public void stop() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  public String getBaseUrl() {
+    return "http://localhost:" + server.getAddress().getPort() + "/";
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      String path = exchange.getRequestURI().getPath();
+      if (PAGES.contains(path)) {
+        respond(exchange, 200, "text/html; charset=utf-8", shellHtml);
+      } else if (path.equals("/standin/app.js")) {
+        respond(exchange, 200, "application/javascript; charset=utf-8", appJs);
+      } else if (path.equals("/standin/app.css")) {
+        respond(exchange, 200, "text/css; charset=utf-8", appCss);
+      } else if (path.startsWith("/static/media/")) {
+        respond(exchange, 200, "image/svg+xml", PLACEHOLDER_IMAGE.getBytes(StandardCharsets.UTF_8));
+      } else {
+        respond(exchange, 404, "text/plain; charset=utf-8", "Not Found".getBytes(StandardCharsets.UTF_8));
+      }
+    }
+  }
+
+  private static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", contentType);
+    exchange.getResponseHeaders().set("Cache-Control", "max-age=3600");
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream output = exchange.getResponseBody()) {
+      output.write(body);
+    }
+  }
+
+  private static Map<String, Object> buildConfig() {
+    List<Map<String, Object>> items = InventoryCatalog.ITEMS.values().stream().map(item -> {
+      Map<String, Object> row = new LinkedHashMap<>();
+      row.put("id", item.id());
+      row.put("name", item.name());
+      row.put("description", item.description());
+      row.put("priceCents", item.price().getCents());
+      row.put("image", item.imageFile());
+      return row;
+    }).collect(Collectors.toList());
+
+    Map<String, Object> config = new LinkedHashMap<>();
+    config.put("items", items);
+    config.put("taxBasisPoints", BusinessSetting.TAX_BASIS_POINTS);
+    config.put("users", SauceDemoUsers.ACCEPTED_USERNAMES);
+    config.put("lockedOutUser", SauceDemoUsers.LOCKED_OUT_USER);
+    config.put("password", SauceDemoUsers.PASSWORD);
+    config.put("addToCartButtonText", PageContent.CommonContent.ADD_TO_CART_BUTTON_TEXT);
+    config.put("removeButtonText", PageContent.CommonContent.REMOVE_BUTTON_TEXT);
+    config.put("completeHeader", PageContent.CheckoutPageContent.COMPLETE_HEADER);
+    config.put("completeText", PageContent.CheckoutPageContent.COMPLETE_TEXT);
+    config.put("backHomeButtonText", PageContent.CheckoutPageContent.BACK_TO_HOME_BUTTON);
+    config.put("titles", Map.of(
+        "products", PageContent.ProductPage.TITLE_PAGE,
+        "cart", PageContent.CartPageContent.TITLE_PAGE,
+        "checkoutStepOne", PageContent.CheckoutPageContent.TITLE_PAGE_ONE_STEP,
+        "checkoutStepTwo", PageContent.CheckoutPageContent.TITLE_PAGE_SECOND_STEP,
+        "checkoutComplete", PageContent.CheckoutPageContent.TITLE_PAGE_COMPLETE));
+    config.put("placeholders", Map.of(
+        "firstName", PageContent.CheckoutPageContent.FIRST_NAME,
+        "lastName", PageContent.CheckoutPageContent.LAST_NAME,
+        "postalCode", PageContent.CheckoutPageContent.POSTAL_CODE));
+    config.put("errors", Map.of(
+        "usernameRequired", PageContent.LoginPageContent.USERNAME_REQUIRED_ERROR,
+        "passwordRequired", PageContent.LoginPageContent.PASSWORD_REQUIRED_ERROR,
+        "usernamePasswordMismatch", PageContent.LoginPageContent.USERNAME_PASSWORD_MISMATCH_ERROR,
+        "userLockedOut", PageContent.LoginPageContent.USER_LOCKED_OUT_ERROR,
+        "itemNotFound", PageContent.ItemDetailPageContent.ITEM_NOT_FOUND_ERROR,
+        "invalidItemDescription", PageContent.ItemDetailPageContent.INVALID_ID_DESCRIPTION_ERROR));
+    return config;
+  }
+
+  private static String readResource(String name) throws IOException {
+    try (InputStream input = SauceDemoStandInServer.class.getClassLoader().getResourceAsStream(name)) {
+      if (input == null) {
+        throw new IOException("Resource not found: " + name);
+      }
+      return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,439 @@
+(function () {
+  'use strict';
+
+  var config = window.STANDIN_CONFIG;
+  var CART_KEY = 'cart-contents';
+  var SESSION_COOKIE = 'session-username';
+  var REDIRECT_ERROR_KEY = 'standin-redirect-error';
+  var root = document.getElementById('root');
+
+  var itemsById = {};
+  config.items.forEach(function (item) {
+    itemsById[item.id] = item;
+  });
+
+  function escapeHtml(value) {
+    return String(value)
+        .replace(/&/g, '&amp;')
+        .replace(/</g, '&lt;')
+        .replace(/>/g, '&gt;')
+        .replace(/"/g, '&quot;')
+        .replace(/'/g, '&#39;');
+  }
+
+  function formatPrice(cents) {
+    var fraction = cents % 100;
+    return '$' + Math.floor(cents / 100) + (fraction < 10 ? '.0' : '.') + fraction;
+  }
+
+  function applyTax(cents) {
+    return Math.floor((cents * config.taxBasisPoints + 5000) / 10000);
+  }
+
+  function slug(name) {
+    return name.toLowerCase().replace(/[^a-z0-9]+/g, '-').replace(/^-|-$/g, '');
+  }
+
+  function getCart() {
+    try {
+      var ids = JSON.parse(window.localStorage.getItem(CART_KEY) || '[]');
+      return Array.isArray(ids) ? ids.filter(function (id) { return itemsById[id]; }) : [];
+    } catch (e) {
+      return [];
+    }
+  }
+
+  function setCart(ids) {
+    if (ids.length === 0) {
+      window.localStorage.removeItem(CART_KEY);
+    } else {
+      window.localStorage.setItem(CART_KEY, JSON.stringify(ids));
+    }
+    updateBadge();
+  }
+
+  function isInCart(id) {
+    return getCart().indexOf(id) !== -1;
+  }
+
+  function toggleCart(id) {
+    var cart = getCart();
+    var index = cart.indexOf(id);
+    if (index === -1) {
+      cart.push(id);
+    } else {
+      cart.splice(index, 1);
+    }
+    setCart(cart);
+    return index === -1;
+  }
+
+  function getSessionUser() {
+    var match = document.cookie.match(new RegExp('(?:^|; )' + SESSION_COOKIE + '=([^;]*)'));
+    return match ? decodeURIComponent(match[1]) : null;
+  }
+
+  function navigate(path) {
+    window.location.href = path;
+  }
+
+  function on(selector, event, handler) {
+    var element = root.querySelector(selector);
+    if (element) {
+      element.addEventListener(event, handler);
+    }
+  }
+
+  function errorHtml(message) {
+    return '<h3 data-test="error">' + escapeHtml(message)
+        + '<button class="error-button" data-test="error-button">'
+        + '<svg viewBox="0 0 10 10"><path d="M1 1 L9 9 M9 1 L1 9" stroke="currentColor"/></svg>'
+        + '</button></h3>';
+  }
+
+  function showError(container, message) {
+    container.innerHTML = errorHtml(message);
+    container.querySelector('.error-button').addEventListener('click', function (event) {
+      event.preventDefault();
+      container.innerHTML = '';
+    });
+  }
+
+  // Header
+
+  function headerHtml(title, secondaryHtml) {
+    return '<div class="header_container">'
+        + '<div class="app_logo">Swag Labs</div>'
+        + '<div id="shopping_cart_container" class="shopping_cart_container">'
+        + '<a class="shopping_cart_link" data-test="shopping-cart-link">Cart</a>'
+        + '</div>'
+        + '</div>'
+        + '<div class="header_secondary_container">'
+        + '<span class="title" data-test="title">' + escapeHtml(title) + '</span>'
+        + (secondaryHtml || '')
+        + '</div>';
+  }
+
+  function bindHeader() {
+    on('#shopping_cart_container', 'click', function () {
+      navigate('/cart.html');
+    });
+    updateBadge();
+  }
+
+  function updateBadge() {
+    var container = document.getElementById('shopping_cart_container');
+    if (!container) {
+      return;
+    }
+    var badge = container.querySelector('.shopping_cart_badge');
+    var count = getCart().length;
+    if (count === 0) {
+      if (badge) {
+        badge.remove();
+      }
+      return;
+    }
+    if (!badge) {
+      badge = document.createElement('span');
+      badge.className = 'shopping_cart_badge';
+      badge.setAttribute('data-test', 'shopping-cart-badge');
+      container.appendChild(badge);
+    }
+    badge.textContent = String(count);
+  }
+
+  function cartButtonHtml(item, extraClass) {
+    var inCart = isInCart(item.id);
+    return '<button class="btn ' + (inCart ? 'btn_secondary' : 'btn_primary') + ' btn_small ' + extraClass + '"'
+        + ' id="' + (inCart ? 'remove-' : 'add-to-cart-') + slug(item.name) + '"'
+        + ' data-item-id="' + item.id + '">'
+        + (inCart ? config.removeButtonText : config.addToCartButtonText)
+        + '</button>';
+  }
+
+  function bindCartButtons(extraClass) {
+    root.querySelectorAll('button[data-item-id]').forEach(function (button) {
+      button.addEventListener('click', function () {
+        var item = itemsById[Number(button.getAttribute('data-item-id'))];
+        toggleCart(item.id);
+        var replacement = document.createElement('div');
+        replacement.innerHTML = cartButtonHtml(item, extraClass);
+        var newButton = replacement.firstChild;
+        button.className = newButton.className;
+        button.id = newButton.id;
+        button.textContent = newButton.textContent;
+      });
+    });
+  }
+
+  // Pages
+
+  function renderLogin() {
+    document.body.className = 'login';
+    root.innerHTML = '<div class="login_logo">Swag Labs</div>'
+        + '<div class="login_wrapper"><form id="login-form">'
+        + '<input class="input_error form_input" placeholder="Username" type="text" id="user-name" name="user-name" data-test="username"/>'
+        + '<input class="input_error form_input" placeholder="Password" type="password" id="password" name="password" data-test="password"/>'
+        + '<div class="error-message-container"></div>'
+        + '<input type="submit" class="submit-button btn_action" data-test="login-button" id="login-button" name="login-button" value="Login"/>'
+        + '</form></div>';
+    var errorContainer = root.querySelector('.error-message-container');
+    var redirectError = window.sessionStorage.getItem(REDIRECT_ERROR_KEY);
+    if (redirectError) {
+      window.sessionStorage.removeItem(REDIRECT_ERROR_KEY);
+      showError(errorContainer, redirectError);
+    }
+    root.querySelector('#login-form').addEventListener('submit', function (event) {
+      event.preventDefault();
+      var username = root.querySelector('#user-name').value;
+      var password = root.querySelector('#password').value;
+      var error = validateLogin(username, password);
+      if (error) {
+        showError(errorContainer, error);
+        return;
+      }
+      document.cookie = SESSION_COOKIE + '=' + encodeURIComponent(username) + '; path=/';
+      navigate('/inventory.html');
+    });
+  }
+
+  function validateLogin(username, password) {
+    if (!username) {
+      return config.errors.usernameRequired;
+    }
+    if (!password) {
+      return config.errors.passwordRequired;
+    }
+    if (config.users.indexOf(username) === -1 || password !== config.password) {
+      return config.errors.usernamePasswordMismatch;
+    }
+    if (username === config.lockedOutUser) {
+      return config.errors.userLockedOut;
+    }
+    return null;
+  }
+
+  var SORTS = {
+    az: function (a, b) { return a.name.localeCompare(b.name); },
+    za: function (a, b) { return b.name.localeCompare(a.name); },
+    lohi: function (a, b) { return a.priceCents - b.priceCents; },
+    hilo: function (a, b) { return b.priceCents - a.priceCents; }
+  };
+
+  function inventoryItemHtml(item) {
+    var link = '/inventory-item.html?id=' + item.id;
+    return '<div class="inventory_item" data-test="inventory-item">'
+        + '<div class="inventory_item_img">'
+        + '<a href="' + link + '" id="item_' + item.id + '_img_link">'
+        + '<img alt="' + escapeHtml(item.name) + '" src="/static/media/' + item.image + '"/>'
+        + '</a></div>'
+        + '<div class="inventory_item_description">'
+        + '<div class="inventory_item_label">'
+        + '<a href="' + link + '" id="item_' + item.id + '_title_link">'
+        + '<div class="inventory_item_name">' + escapeHtml(item.name) + '</div></a>'
+        + '<div class="inventory_item_desc">' + escapeHtml(item.description) + '</div>'
+        + '</div>'
+        + '<div class="pricebar">'
+        + '<div class="inventory_item_price">' + formatPrice(item.priceCents) + '</div>'
+        + cartButtonHtml(item, 'btn_inventory')
+        + '</div></div></div>';
+  }
+
+  function renderInventory() {
+    var sortHtml = '<select class="product_sort_container" data-test="product-sort-container">'
+        + '<option value="az">Name (A to Z)</option>'
+        + '<option value="za">Name (Z to A)</option>'
+        + '<option value="lohi">Price (low to high)</option>'
+        + '<option value="hilo">Price (high to low)</option>'
+        + '</select>';
+    root.innerHTML = headerHtml(config.titles.products, sortHtml)
+        + '<div class="inventory_container"><div class="inventory_list"></div></div>';
+    bindHeader();
+    var list = root.querySelector('.inventory_list');
+    var renderList = function (sortName) {
+      var items = config.items.slice().sort(SORTS[sortName] || SORTS.az);
+      list.innerHTML = items.map(inventoryItemHtml).join('');
+      bindCartButtons('btn_inventory');
+    };
+    root.querySelector('.product_sort_container').addEventListener('change', function (event) {
+      renderList(event.target.value);
+    });
+    renderList('az');
+  }
+
+  function renderItemDetail() {
+    var id = Number(new URLSearchParams(window.location.search).get('id'));
+    var item = itemsById[id];
+    var backButton = '<button class="btn btn_secondary back btn_large inventory_details_back_button"'
+        + ' id="back-to-products" data-test="back-to-products">Back to products</button>';
+    var details;
+    if (item) {
+      details = '<img class="inventory_details_img" alt="' + escapeHtml(item.name) + '" src="/static/media/' + item.image + '"/>'
+          + '<div class="inventory_details_desc_container">'
+          + '<div class="inventory_details_name large_size">' + escapeHtml(item.name) + '</div>'
+          + '<div class="inventory_details_desc large_size">' + escapeHtml(item.description) + '</div>'
+          + '<div class="inventory_details_price">' + formatPrice(item.priceCents) + '</div>'
+          + cartButtonHtml(item, 'btn_inventory')
+          + '</div>';
+    } else {
+      details = '<img class="inventory_details_img" alt="ITEM NOT FOUND" src="/static/media/sl-404.jpg"/>'
+          + '<div class="inventory_details_desc_container">'
+          + '<div class="inventory_details_name large_size">' + escapeHtml(config.errors.itemNotFound.toUpperCase()) + '</div>'
+          + '<div class="inventory_details_desc large_size">' + escapeHtml(config.errors.invalidItemDescription) + '</div>'
+          + '<div class="inventory_details_price">$√-1</div>'
+          + '<button class="btn btn_primary btn_small btn_inventory" id="add-to-cart">' + config.addToCartButtonText + '</button>'
+          + '</div>';
+    }
+    root.innerHTML = headerHtml('', backButton)
+        + '<div class="inventory_details"><div class="inventory_details_container">' + details + '</div></div>';
+    bindHeader();
+    bindCartButtons('btn_inventory');
+    on('#back-to-products', 'click', function () {
+      navigate('/inventory.html');
+    });
+  }
+
+  function cartItemHtml(item, withRemoveButton) {
+    return '<div class="cart_item" data-test="inventory-item">'
+        + '<div class="cart_quantity">1</div>'
+        + '<div class="cart_item_label">'
+        + '<a href="/inventory-item.html?id=' + item.id + '" id="item_' + item.id + '_title_link">'
+        + '<div class="inventory_item_name">' + escapeHtml(item.name) + '</div></a>'
+        + '<div class="inventory_item_desc">' + escapeHtml(item.description) + '</div>'
+        + '<div class="item_pricebar">'
+        + '<div class="inventory_item_price">' + formatPrice(item.priceCents) + '</div>'
+        + (withRemoveButton
+            ? '<button class="btn btn_secondary btn_small cart_button" id="remove-' + slug(item.name) + '"'
+            + ' data-remove-id="' + item.id + '">' + config.removeButtonText + '</button>'
+            : '')
+        + '</div></div></div>';
+  }
+
+  function cartListHtml(withRemoveButtons) {
+    return '<div class="cart_list">'
+        + '<div class="cart_quantity_label">QTY</div>'
+        + '<div class="cart_desc_label">Description</div>'
+        + getCart().map(function (id) { return cartItemHtml(itemsById[id], withRemoveButtons); }).join('')
+        + '</div>';
+  }
+
+  function renderCart() {
+    root.innerHTML = headerHtml(config.titles.cart)
+        + '<div class="cart_contents_container">' + cartListHtml(true)
+        + '<div class="cart_footer">'
+        + '<button class="btn btn_secondary back btn_medium" id="continue-shopping" data-test="continue-shopping">Continue Shopping</button>'
+        + '<button class="btn btn_action btn_medium checkout_button" id="checkout" data-test="checkout">Checkout</button>'
+        + '</div></div>';
+    bindHeader();
+    root.querySelectorAll('button[data-remove-id]').forEach(function (button) {
+      button.addEventListener('click', function () {
+        var id = Number(button.getAttribute('data-remove-id'));
+        setCart(getCart().filter(function (cartId) { return cartId !== id; }));
+        button.closest('.cart_item').remove();
+      });
+    });
+    on('#continue-shopping', 'click', function () {
+      navigate('/inventory.html');
+    });
+    on('#checkout', 'click', function () {
+      navigate('/checkout-step-one.html');
+    });
+  }
+
+  function renderCheckoutStepOne() {
+    root.innerHTML = headerHtml(config.titles.checkoutStepOne)
+        + '<div class="checkout_info_container"><form id="checkout-form">'
+        + '<div class="checkout_info">'
+        + '<input class="input_error form_input" placeholder="' + escapeHtml(config.placeholders.firstName) + '" type="text" id="first-name" name="firstName" data-test="firstName"/>'
+        + '<input class="input_error form_input" placeholder="' + escapeHtml(config.placeholders.lastName) + '" type="text" id="last-name" name="lastName" data-test="lastName"/>'
+        + '<input class="input_error form_input" placeholder="' + escapeHtml(config.placeholders.postalCode) + '" type="text" id="postal-code" name="postalCode" data-test="postalCode"/>'
+        + '<div class="error-message-container"></div>'
+        + '</div>'
+        + '<div class="checkout_buttons">'
+        + '<button class="btn btn_secondary back btn_medium cart_cancel_link" id="cancel" type="button" data-test="cancel">Cancel</button>'
+        + '<input type="submit" class="submit-button btn btn_primary cart_button btn_action" id="continue" name="continue" data-test="continue" value="Continue"/>'
+        + '</div></form></div>';
+    bindHeader();
+    var errorContainer = root.querySelector('.error-message-container');
+    on('#cancel', 'click', function () {
+      navigate('/cart.html');
+    });
+    root.querySelector('#checkout-form').addEventListener('submit', function (event) {
+      event.preventDefault();
+      if (!root.querySelector('#first-name').value) {
+        showError(errorContainer, 'Error: First Name is required');
+      } else if (!root.querySelector('#last-name').value) {
+        showError(errorContainer, 'Error: Last Name is required');
+      } else if (!root.querySelector('#postal-code').value) {
+        showError(errorContainer, 'Error: Postal Code is required');
+      } else {
+        navigate('/checkout-step-two.html');
+      }
+    });
+  }
+
+  function renderCheckoutStepTwo() {
+    var itemTotal = getCart().reduce(function (sum, id) { return sum + itemsById[id].priceCents; }, 0);
+    var tax = applyTax(itemTotal);
+    root.innerHTML = headerHtml(config.titles.checkoutStepTwo)
+        + '<div class="checkout_summary_container">' + cartListHtml(false)
+        + '<div class="summary_info">'
+        + '<div class="summary_info_label">Payment Information:</div>'
+        + '<div class="summary_value_label">SauceCard #31337</div>'
+        + '<div class="summary_info_label">Shipping Information:</div>'
+        + '<div class="summary_value_label">Free Pony Express Delivery!</div>'
+        + '<div class="summary_info_label">Price Total</div>'
+        + '<div class="summary_subtotal_label">Item total: ' + formatPrice(itemTotal) + '</div>'
+        + '<div class="summary_tax_label">Tax: ' + formatPrice(tax) + '</div>'
+        + '<div class="summary_info_label summary_total_label">Total: ' + formatPrice(itemTotal + tax) + '</div>'
+        + '<div class="cart_footer">'
+        + '<button class="btn btn_secondary back btn_medium cart_cancel_link" id="cancel" data-test="cancel">Cancel</button>'
+        + '<button class="btn btn_action btn_medium cart_button" id="finish" data-test="finish">Finish</button>'
+        + '</div></div></div>';
+    bindHeader();
+    on('#cancel', 'click', function () {
+      navigate('/inventory.html');
+    });
+    on('#finish', 'click', function () {
+      setCart([]);
+      navigate('/checkout-complete.html');
+    });
+  }
+
+  function renderCheckoutComplete() {
+    root.innerHTML = headerHtml(config.titles.checkoutComplete)
+        + '<div class="checkout_complete_container">'
+        + '<img class="pony_express" alt="Pony Express" src="/static/media/pony-express.png"/>'
+        + '<h2 class="complete-header" data-test="complete-header">' + escapeHtml(config.completeHeader) + '</h2>'
+        + '<div class="complete-text" data-test="complete-text">' + escapeHtml(config.completeText) + '</div>'
+        + '<button class="btn btn_primary btn_small" id="back-to-products" data-test="back-to-products">'
+        + escapeHtml(config.backHomeButtonText) + '</button>'
+        + '</div>';
+    bindHeader();
+    on('#back-to-products', 'click', function () {
+      navigate('/inventory.html');
+    });
+  }
+
+  var ROUTES = {
+    '/inventory.html': renderInventory,
+    '/inventory-item.html': renderItemDetail,
+    '/cart.html': renderCart,
+    '/checkout-step-one.html': renderCheckoutStepOne,
+    '/checkout-step-two.html': renderCheckoutStepTwo,
+    '/checkout-complete.html': renderCheckoutComplete
+  };
+
+  var path = window.location.pathname;
+  var render = ROUTES[path];
+  if (!render) {
+    renderLogin();
+  } else if (!getSessionUser()) {
+    window.sessionStorage.setItem(REDIRECT_ERROR_KEY,
+        "Epic sadface: You can only access '" + path + "' when you are logged in.");
+    window.location.replace('/');
+  } else {
+    render();
+  }
+})();